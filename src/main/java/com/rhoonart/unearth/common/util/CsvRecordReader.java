@@ -0,0 +1,116 @@
+package com.rhoonart.unearth.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 레코드 읽기 (스트리밍)
+ * 쉼표 구분, 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈, "" 이스케이프, CRLF/LF/CR 줄바꿈을 처리한다.
+ * 필드 중간에 나온 큰따옴표는 그대로 값으로 둔다. (엑셀 등에서 만든 느슨한 CSV 허용)
+ */
+public final class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int END = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    // 필드 값을 모으는 버퍼 (레코드마다 재사용)
+    private final StringBuilder field = new StringBuilder();
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * @return 필드 목록 (더 읽을 레코드가 없으면 null)
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == END) {
+            return null;
+        }
+
+        List<String> record = new ArrayList<>();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (c == END) {
+                // 닫히지 않은 따옴표도 파일 끝에서 필드를 끝냄
+                record.add(takeField());
+                return record;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                record.add(takeField());
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                record.add(takeField());
+                return record;
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    private String takeField() {
+        String value = field.toString();
+        field.setLength(0);
+        return value;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return END;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return END;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(buffer, 0, BUFFER_SIZE);
+        if (count <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = count;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.rhoonart.unearth.common.util;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색어 변환
+ * 공백으로 나눈 각 단어를 모두 포함해야 하는 구문 검색(+"단어")으로 바꾼다.
+ * ngram 토큰 크기(2)보다 짧은 단어가 있으면 색인으로 찾을 수 없으므로 null을 반환하고, 호출하는 쪽에서 LIKE 검색을 사용한다.
+ */
+public final class FullTextSearchQuery {
+
+    // MySQL ngram_token_size 기본값
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    private FullTextSearchQuery() {
+    }
+
+    /**
+     * @param search 사용자 검색어
+     * @return BOOLEAN MODE 검색식 (색인 검색을 할 수 없으면 null)
+     */
+    public static String toBooleanQuery(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        // 구문 안에서 특별한 의미가 있는 큰따옴표만 제거
+        String[] terms = search.replace("\"", " ").trim().split("\\s+");
+        boolean searchable = terms.length > 0 && Arrays.stream(terms)
+                .allMatch(term -> term.codePointCount(0, term.length()) >= NGRAM_TOKEN_SIZE);
+        if (!searchable) {
+            return null;
+        }
+        return Arrays.stream(terms)
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,63 @@
+package com.rhoonart.unearth.common.util;
+
+/**
+ * 한글 초성 변환
+ * 완성형 음절(가~힣)을 초성 자모(ㄱ~ㅎ)로 바꾼다. 예: "방탄소년단" -> "ㅂㅌㅅㄴㄷ"
+ */
+public final class HangulChoseong {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    // 초성 하나당 음절 수 (중성 21 x 종성 28)
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChoseong() {
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 (한글이 아닌 문자는 그대로)
+     */
+    public static String toChoseong(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isSyllable(chars[i])) {
+                chars[i] = CHOSEONG[(chars[i] - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 한글 음절이 포함되어 있는지 확인
+     */
+    public static boolean containsSyllable(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (isSyllable(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성 자모(ㄱ~ㅎ)가 포함되어 있는지 확인 (초성 검색어 판별용)
+     */
+    public static boolean containsChoseong(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,30 @@
+package com.rhoonart.unearth.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 시점 작업 유틸
+ * 캐시/색인처럼 DB 밖에 두는 상태는 커밋 전에 바꾸면 다른 요청이 커밋 전 값을 다시 읽어 둘 수 있으므로 커밋 후에 반영한다.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 트랜잭션 중이면 커밋 후에, 아니면 바로 실행합니다. (롤백되면 실행하지 않음)
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -7,9 +7,11 @@ import com.rhoonart.unearth.crawling.service.CrawlingCsvService;
 import com.rhoonart.unearth.user.dto.UserDto;
 import com.rhoonart.unearth.user.exception.ForbiddenException;
 import com.rhoonart.unearth.common.util.SessionUserUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,8 +21,15 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Controller
@@ -30,60 +39,79 @@ public class CrawlingCsvController {
 
         private final CrawlingCsvService crawlingCsvService;
 
+        @Value("${crawling.csv.download-timeout-minutes:10}")
+        private long downloadTimeoutMinutes;
+
         @GetMapping("/data/{songId}/csv")
-        public ResponseEntity<byte[]> downloadCrawlingDataCsv(
+        public ResponseEntity<StreamingResponseBody> downloadCrawlingDataCsv(
                         @PathVariable String songId,
                         @RequestParam(value = "startDate", required = false) String startDateStr,
                         @RequestParam(value = "endDate", required = false) String endDateStr,
+                        HttpServletRequest request,
                         HttpSession session) {
 
                 try {
                         // 로그인 검사
                         UserDto userDto = SessionUserUtil.requireLogin(session);
 
-                        // CSV 데이터 및 파일명 생성
+                        // 권한 확인 및 파일명 생성 (CSV 본문은 응답을 쓰면서 생성)
                         CrawlingCsvDownloadDto csvDownloadDto = crawlingCsvService.generateCrawlingDataCsvForDownload(
                                         userDto,
                                         songId,
                                         startDateStr,
                                         endDateStr);
 
-                        // UTF-8 BOM + CSV 데이터를 바이트 배열로 변환
-                        String csvContent = "\uFEFF" + csvDownloadDto.getCsvData();
-                        byte[] csvBytes = csvContent.getBytes(StandardCharsets.UTF_8);
-
-                        // HTTP 헤더 설정 - Excel 호환성을 위해 강화된 설정
+                        // HTTP 헤더 설정 - Excel 호환성을 위해 강화된 설정 (스트리밍이므로 Content-Length 없음)
                         HttpHeaders headers = new HttpHeaders();
                         headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
                         headers.set("Content-Disposition",
                                         "attachment; filename*=UTF-8''" + csvDownloadDto.getFilename());
                         headers.set("Content-Transfer-Encoding", "binary");
-                        headers.set("Content-Length", String.valueOf(csvBytes.length));
 
                         // 추가 헤더로 인코딩 명시
                         headers.set("Content-Type", "application/octet-stream; charset=UTF-8");
 
+                        extendDownloadTimeout(request);
                         return ResponseEntity.ok()
                                         .headers(headers)
-                                        .body(csvBytes);
+                                        .body(csvDownloadDto.getBody());
 
                 } catch (ForbiddenException e) {
                         log.error("❌ CSV 다운로드 권한 없음: {}", e.getMessage());
-                        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                                        .contentType(MediaType.TEXT_PLAIN)
-                                        .body("권한이 없습니다.".getBytes(StandardCharsets.UTF_8));
+                        return textResponse(HttpStatus.FORBIDDEN, "권한이 없습니다.");
 
                 } catch (BaseException e) {
                         log.error("❌ CSV 다운로드 실패 (BaseException): {}", e.getMessage());
-                        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                        .contentType(MediaType.TEXT_PLAIN)
-                                        .body(e.getMessage().getBytes(StandardCharsets.UTF_8));
+                        return textResponse(HttpStatus.BAD_REQUEST, e.getMessage());
 
                 } catch (Exception e) {
                         log.error("❌ CSV 다운로드 실패 (Exception): {}", e.getMessage(), e);
-                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                        .contentType(MediaType.TEXT_PLAIN)
-                                        .body("CSV 다운로드 중 오류가 발생했습니다.".getBytes(StandardCharsets.UTF_8));
+                        return textResponse(HttpStatus.INTERNAL_SERVER_ERROR, "CSV 다운로드 중 오류가 발생했습니다.");
                 }
         }
+
+        /**
+         * 이 요청의 스트리밍 응답에만 긴 비동기 타임아웃을 적용합니다. (다른 비동기 요청은 기본값 유지)
+         * 비동기 처리를 시작하기 직전에 호출되는 인터셉터에서 타임아웃을 바꾼다.
+         */
+        private void extendDownloadTimeout(HttpServletRequest request) {
+                long timeoutMillis = TimeUnit.MINUTES.toMillis(downloadTimeoutMinutes);
+                WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(CrawlingCsvController.class.getName(),
+                                new CallableProcessingInterceptor() {
+                                        @Override
+                                        public <T> void beforeConcurrentHandling(NativeWebRequest webRequest,
+                                                        Callable<T> task) {
+                                                if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                                                        asyncWebRequest.setTimeout(timeoutMillis);
+                                                }
+                                        }
+                                });
+        }
+
+        private ResponseEntity<StreamingResponseBody> textResponse(HttpStatus status, String message) {
+                byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+                return ResponseEntity.status(status)
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .body(outputStream -> outputStream.write(bytes));
+        }
 }
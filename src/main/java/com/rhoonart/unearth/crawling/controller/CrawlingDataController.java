@@ -35,6 +35,7 @@ public class CrawlingDataController {
      * @param platformStr
      * @param page
      * @param days
+     * @param cursor  커서 페이지네이션 커서 (빈 값이면 커서 방식 첫 페이지, 없으면 페이지 번호 방식)
      * @param session
      * @param model
      * @return
@@ -47,13 +48,14 @@ public class CrawlingDataController {
             @RequestParam(value = "platform", required = false) String platformStr,
             @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
             @RequestParam(value = "days", required = false, defaultValue = "7") Integer days,
+            @RequestParam(value = "cursor", required = false) String cursor,
             HttpSession session,
             Model model) {
         // 권한 체크: SUPER_ADMIN, ADMIN 또는 해당 권리자 본인만 접근 가능
         UserDto user = SessionUserUtil.requireLogin(session);
 
         CrawlingDataWithSongInfoDto crawlingDataWithSongInfo = crawlingDataService.getCrawlingDataWithFilters(
-                user, songId, startDateStr, endDateStr, platformStr, page, days);
+                user, songId, startDateStr, endDateStr, platformStr, page, days, cursor);
 
         model.addAttribute("response", CommonResponse.success(null));
         model.addAttribute("crawlingData", crawlingDataWithSongInfo); // 그룹화된 데이터 포함
@@ -62,6 +64,7 @@ public class CrawlingDataController {
         model.addAttribute("endDate", endDateStr);
         model.addAttribute("platform", platformStr);
         model.addAttribute("days", days);
+        model.addAttribute("cursor", cursor);
 
         return "crawling/data";
     }
@@ -0,0 +1,75 @@
+package com.rhoonart.unearth.crawling.controller;
+
+import com.rhoonart.unearth.common.CommonResponse;
+import com.rhoonart.unearth.common.util.SessionUserUtil;
+import com.rhoonart.unearth.crawling.dto.CrawlingExportJobDto;
+import com.rhoonart.unearth.crawling.dto.CrawlingExportRequestDto;
+import com.rhoonart.unearth.crawling.service.CrawlingExportService;
+import com.rhoonart.unearth.user.dto.UserDto;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.nio.file.Path;
+
+@Slf4j
+@Controller
+@RequestMapping("/crawling/export")
+@RequiredArgsConstructor
+public class CrawlingExportController {
+
+    private final CrawlingExportService crawlingExportService;
+
+    /**
+     * 권리자 전체 또는 여러 음원의 크롤링 데이터 일괄 내보내기를 요청합니다.
+     * 작업은 백그라운드에서 실행되며, 상태 조회 API로 진행 상황과 다운로드 경로를 확인합니다.
+     *
+     * @param dto     권리자 ID 또는 음원 ID 목록(songIds), 기간
+     * @param session 로그인 세션 (요청 사용자 확인용)
+     * @return 등록된 작업 상태
+     */
+    @PostMapping
+    @ResponseBody
+    public CommonResponse<CrawlingExportJobDto> requestExport(@ModelAttribute CrawlingExportRequestDto dto,
+            HttpSession session) {
+        UserDto user = SessionUserUtil.requireLogin(session);
+        return CommonResponse.success(crawlingExportService.requestExport(user, dto));
+    }
+
+    /**
+     * 일괄 내보내기 작업 상태 조회
+     */
+    @GetMapping("/{jobId}")
+    @ResponseBody
+    public CommonResponse<CrawlingExportJobDto> getExportJob(@PathVariable String jobId, HttpSession session) {
+        UserDto user = SessionUserUtil.requireLogin(session);
+        return CommonResponse.success(crawlingExportService.getJob(user, jobId));
+    }
+
+    /**
+     * 완료된 일괄 내보내기 파일 다운로드 (gzip 압축 CSV)
+     */
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String jobId, HttpSession session) {
+        UserDto user = SessionUserUtil.requireLogin(session);
+        Path file = crawlingExportService.getExportFile(user, jobId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + crawlingExportService.getExportFilename(jobId) + "\"")
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,50 @@
+package com.rhoonart.unearth.crawling.controller;
+
+import com.rhoonart.unearth.common.util.DataAuthorityService;
+import com.rhoonart.unearth.common.util.SessionUserUtil;
+import com.rhoonart.unearth.crawling.service.CrawlingProgressBroadcaster;
+import com.rhoonart.unearth.user.dto.UserDto;
+import com.rhoonart.unearth.user.exception.ForbiddenException;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+@RequestMapping("/crawling")
+@RequiredArgsConstructor
+public class CrawlingProgressController {
+
+    private final CrawlingProgressBroadcaster crawlingProgressBroadcaster;
+    private final DataAuthorityService dataAuthorityService;
+
+    /**
+     * 크롤링 진행 상황 실시간 스트림 (Server-Sent Events)
+     * songId를 지정하면 해당 곡의 저장 이벤트만, 생략하면(관리자만) 모든 이벤트를 받습니다.
+     *
+     * @param songId  곡 ID (선택)
+     * @param session 로그인 세션 (곡 데이터 접근 권한 확인용)
+     * @return 진행 이벤트를 보내는 SseEmitter
+     */
+    @GetMapping(value = "/progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamProgress(
+            @RequestParam(value = "songId", required = false) String songId,
+            HttpSession session) {
+        if (songId == null || songId.isBlank()) {
+            SessionUserUtil.requireAdminRole(session);
+            return crawlingProgressBroadcaster.subscribe(null);
+        }
+
+        UserDto user = SessionUserUtil.requireLogin(session);
+        if (!dataAuthorityService.isAccessSongData(user, songId)) {
+            throw new ForbiddenException();
+        }
+        return crawlingProgressBroadcaster.subscribe(songId);
+    }
+}
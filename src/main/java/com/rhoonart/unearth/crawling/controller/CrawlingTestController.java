@@ -1,13 +1,21 @@
 package com.rhoonart.unearth.crawling.controller;
 
+import com.rhoonart.unearth.common.exception.BaseException;
+import com.rhoonart.unearth.crawling.dto.CrawlingRunDto;
+import com.rhoonart.unearth.crawling.entity.CrawlingRun;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunType;
+import com.rhoonart.unearth.crawling.service.CrawlingRunService;
 import com.rhoonart.unearth.crawling.service.CrawlingSchedulerService;
 import com.rhoonart.unearth.common.CommonResponse;
 import com.rhoonart.unearth.common.ResponseCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -17,18 +25,27 @@ import org.springframework.web.bind.annotation.RestController;
 public class CrawlingTestController {
 
     private final CrawlingSchedulerService crawlingSchedulerService;
+    private final CrawlingRunService crawlingRunService;
 
     /**
      * 수동으로 전체 크롤링 실행
      * 테스트 목적으로 사용
+     *
+     * @param resume true면 오늘 이미 저장된 곡/플랫폼은 건너뛰고 남은 작업만 실행
+     * @return 등록된 실행 ID
      */
     @PostMapping("/execute-full")
-    public ResponseEntity<CommonResponse<String>> executeFullCrawling() {
+    public ResponseEntity<CommonResponse<String>> executeFullCrawling(
+            @RequestParam(value = "resume", required = false, defaultValue = "false") boolean resume) {
         try {
-            log.info("🔧 수동 전체 크롤링 요청 받음");
-            crawlingSchedulerService.executeFullCrawlingManually();
+            log.info("🔧 수동 전체 크롤링 요청 받음 (재시작: {})", resume);
+            CrawlingRun run = crawlingSchedulerService.executeFullCrawlingManually(resume);
 
-            return ResponseEntity.ok(CommonResponse.success("전체 크롤링이 시작되었습니다."));
+            return ResponseEntity.ok(CommonResponse.of(ResponseCode.SUCCESS, "전체 크롤링이 시작되었습니다.", run.getId()));
+        } catch (BaseException e) {
+            log.warn("❌ 수동 전체 크롤링 요청 거부: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(CommonResponse.fail(e.getCode(), e.getMessage()));
         } catch (Exception e) {
             log.error("❌ 수동 전체 크롤링 실행 중 오류", e);
             return ResponseEntity.internalServerError()
@@ -36,4 +53,21 @@ public class CrawlingTestController {
                             "전체 크롤링 실행 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 가장 최근 전체 크롤링 실행 상태 조회
+     */
+    @GetMapping("/runs/current")
+    public ResponseEntity<CommonResponse<CrawlingRunDto>> getCurrentRun() {
+        return ResponseEntity.ok(CommonResponse.success(
+                crawlingRunService.getCurrentRun(CrawlingRunType.FULL).orElse(null)));
+    }
+
+    /**
+     * 크롤링 실행 상태 조회
+     */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<CommonResponse<CrawlingRunDto>> getRun(@PathVariable String runId) {
+        return ResponseEntity.ok(CommonResponse.success(crawlingRunService.getRun(runId)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 크롤링 데이터가 있는 날짜 범위 DTO (데이터가 없으면 둘 다 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CrawlDateRangeDto {
+    private LocalDate minDate;
+    private LocalDate maxDate;
+
+    public boolean isEmpty() {
+        return minDate == null || maxDate == null;
+    }
+}
@@ -1,22 +1,25 @@
 package com.rhoonart.unearth.crawling.dto;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 /**
  * CSV 다운로드를 위한 DTO
+ * 본문은 응답 스트림에 바로 쓰이므로 파일 전체를 메모리에 만들지 않는다.
  */
 public class CrawlingCsvDownloadDto {
-    private final String csvData;
+    private final StreamingResponseBody body;
     private final String filename;
 
-    public CrawlingCsvDownloadDto(String csvData, String filename) {
-        this.csvData = csvData;
+    public CrawlingCsvDownloadDto(StreamingResponseBody body, String filename) {
+        this.body = body;
         this.filename = filename;
     }
 
-    public String getCsvData() {
-        return csvData;
+    public StreamingResponseBody getBody() {
+        return body;
     }
 
     public String getFilename() {
         return filename;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import com.rhoonart.unearth.user.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 크롤링 데이터 커서 페이지네이션의 커서 (마지막으로 본 크롤링 날짜)
+ * 페이지는 날짜 단위로 모든 플랫폼을 담으므로 날짜만으로 다음 위치가 정해진다.
+ * 문자열 형식: yyyy-MM-dd (예: 2025-07-01)
+ */
+@Getter
+@AllArgsConstructor
+public class CrawlingDataCursorDto {
+    private LocalDate crawlDate;
+
+    /**
+     * 커서 문자열 파싱 (비어 있으면 첫 페이지를 의미하므로 null)
+     */
+    public static CrawlingDataCursorDto parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new CrawlingDataCursorDto(LocalDate.parse(cursor));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("커서 형식이 올바르지 않습니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return crawlDate.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 크롤링 데이터 일괄 내보내기 작업 상태
+ */
+@Getter
+@Builder
+public class CrawlingExportJobDto {
+
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private final String jobId;
+    private final State state;
+    private final String rightHolderId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int totalSongs;
+    private final int processedSongs;
+    private final Long fileSize;
+    private final String downloadUrl; // 완료된 경우에만 존재
+    private final String message;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime finishedAt;
+}
@@ -0,0 +1,28 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 크롤링 데이터 일괄 내보내기 요청
+ * 권리자 ID 또는 음원 ID 목록 중 하나를 지정한다. (둘 다 있으면 권리자 기준)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlingExportRequestDto {
+
+    private String rightHolderId;
+
+    private List<String> songIds;
+
+    private String startDate;
+
+    private String endDate;
+}
@@ -0,0 +1,15 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 프로세스 실행 결과 DTO
+ * 종료 코드와 타임아웃 여부, 실행 시각을 담는다.
+ */
+public record CrawlingProcessResultDto(String label, int exitCode, boolean timedOut,
+        LocalDateTime startedAt, LocalDateTime endedAt) {
+
+    public boolean isSuccess() {
+        return exitCode == 0 && !timedOut;
+    }
+}
@@ -0,0 +1,32 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 크롤러 프로세스 진행 상황 DTO
+ * 크롤러 출력의 진행 이벤트를 집계한 값이다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlingProgressDto {
+    private String label;
+    private Integer totalSongs;
+    private int platformCount;
+    private String currentPlatform;
+    private int savedCount;
+    private int failedCount;
+    private Map<String, Integer> savedCountByPlatform;
+    private String lastSongId;
+    private boolean finished;
+    private String finalStatus;
+    private long droppedLines;
+    private LocalDateTime updatedAt;
+}
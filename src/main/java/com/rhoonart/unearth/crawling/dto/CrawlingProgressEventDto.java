@@ -0,0 +1,36 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 크롤러가 출력하는 진행 상황 이벤트 DTO
+ * 크롤러는 "@@PROGRESS {json}" 형식의 한 줄로 이벤트를 출력한다.
+ *
+ * @param event      이벤트 종류 (run_start, platform_start, song_saved, run_end)
+ * @param songId     곡 ID (song_saved)
+ * @param platform   플랫폼 (platform_start, song_saved)
+ * @param status     결과 (song_saved: success/failed/error, run_end: success/error)
+ * @param totalSongs 대상 곡 수 (run_start, platform_start)
+ * @param platforms  대상 플랫폼 목록 (run_start)
+ * @param views      조회수 (song_saved)
+ * @param listeners  청취자 수 (song_saved)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CrawlingProgressEventDto(
+        String event,
+        @JsonProperty("song_id") String songId,
+        String platform,
+        String status,
+        @JsonProperty("total_songs") Integer totalSongs,
+        List<String> platforms,
+        Long views,
+        Long listeners) {
+
+    public static final String RUN_START = "run_start";
+    public static final String PLATFORM_START = "platform_start";
+    public static final String SONG_SAVED = "song_saved";
+    public static final String RUN_END = "run_end";
+}
@@ -0,0 +1,71 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import com.rhoonart.unearth.crawling.entity.CrawlingRun;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunState;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 크롤링 실행 상태 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlingRunDto {
+    private String runId;
+    private CrawlingRunType runType;
+    private String parentRunId;
+    private String label;
+    private CrawlingRunState state;
+    private LocalDate targetDate;
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private Integer exitCode;
+    private Integer songsTotal;
+    private Integer songsProcessed;
+    private String message;
+    private CrawlingProgressDto progress;
+    private List<CrawlingRunDto> shards;
+
+    /**
+     * CrawlingRun 엔티티로부터 DTO 생성
+     *
+     * @param songsProcessed 처리된 곡 수 (실행 중이면 현재까지 저장된 곡 수)
+     */
+    public static CrawlingRunDto of(CrawlingRun run, Integer songsProcessed) {
+        return of(run, songsProcessed, null, List.of());
+    }
+
+    /**
+     * 실행 중이면 크롤러 진행 상황을, 분할 실행이면 개별 프로세스 상태를 함께 담는다.
+     */
+    public static CrawlingRunDto of(CrawlingRun run, Integer songsProcessed, CrawlingProgressDto progress,
+            List<CrawlingRunDto> shards) {
+        return CrawlingRunDto.builder()
+                .runId(run.getId())
+                .runType(run.getRunType())
+                .parentRunId(run.getParentRunId())
+                .label(run.getLabel())
+                .state(run.getState())
+                .targetDate(run.getTargetDate())
+                .requestedAt(run.getCreatedAt())
+                .startedAt(run.getStartedAt())
+                .endedAt(run.getEndedAt())
+                .exitCode(run.getExitCode())
+                .songsTotal(run.getSongsTotal())
+                .songsProcessed(songsProcessed)
+                .message(run.getMessage())
+                .progress(progress)
+                .shards(shards)
+                .build();
+    }
+}
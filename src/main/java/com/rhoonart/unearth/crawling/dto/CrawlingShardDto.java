@@ -0,0 +1,21 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import java.util.List;
+
+/**
+ * 분할 전체 크롤링의 프로세스 하나가 맡을 작업 DTO
+ *
+ * @param partitionIndex 곡 묶음 번호 (1부터 시작)
+ * @param partitionCount 전체 곡 묶음 수
+ * @param songIds        크롤링할 곡 ID 목록
+ * @param platform       크롤링할 플랫폼 (null이면 전체 플랫폼)
+ * @param runViewcount   YouTube 조회수 수집(후처리) 담당 여부
+ */
+public record CrawlingShardDto(int partitionIndex, int partitionCount, List<String> songIds, String platform,
+        boolean runViewcount) {
+
+    public String label() {
+        String label = "곡 묶음 " + partitionIndex + "/" + partitionCount;
+        return platform == null ? label : label + " (" + platform + ")";
+    }
+}
@@ -14,10 +14,16 @@ import lombok.Builder;
 @Builder
 public class PageInfoDto {
     private int totalPages;
-    private long totalElements;
+    // 커서 모드에서 필터가 있으면 전체 건수를 세지 않으므로 null
+    private Long totalElements;
     private int currentPage;
     private int pageSize;
 
+    // 커서 페이지네이션 (cursor 파라미터로 조회한 경우)
+    private boolean cursorMode;
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
     /**
      * 현재 페이지가 첫 페이지인지 확인
      */
@@ -39,6 +45,13 @@ public class PageInfoDto {
         return currentPage < totalPages - 1;
     }
 
+    /**
+     * 커서 모드에서 다음 페이지가 있는지 확인
+     */
+    public boolean hasNextCursor() {
+        return nextCursor != null;
+    }
+
     /**
      * 이전 페이지가 있는지 확인
      */
@@ -5,6 +5,7 @@ import com.rhoonart.unearth.song.entity.SongInfo;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
@@ -16,13 +17,25 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import org.hibernate.annotations.UuidGenerator;
 
+import java.time.LocalDate;
+
 @Entity
-@Table(name = "crawling_data")
+@Table(name = "crawling_data", indexes = {
+        @Index(name = "idx_crawling_data_song_date", columnList = "song_id, crawl_date"),
+        @Index(name = "idx_crawling_data_date", columnList = "crawl_date")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class CrawlingData extends BaseEntity {
+
+    /**
+     * 곡/플랫폼/날짜별 한 행만 허용하는 유니크 제약 이름
+     * crawl_date를 채우고 중복 행을 정리한 뒤 추가해야 하므로 ddl-auto가 아닌 CrawlingDataInitializer에서 만든다.
+     */
+    public static final String UNIQUE_SONG_PLATFORM_DATE = "uk_crawling_data_song_platform_date";
+
     @Id
     @UuidGenerator
     @Column(length = 36, nullable = false, updatable = false, unique = true)
@@ -41,4 +54,23 @@ public class CrawlingData extends BaseEntity {
 
     @Column(name = "listeners", nullable = false)
     private long listeners;
+
+    /**
+     * 크롤링 기준 날짜 (날짜 조회는 created_at 대신 이 컬럼으로 범위 조회)
+     * 기존 행을 채운 뒤 CrawlingDataInitializer에서 NOT NULL로 바꾼다.
+     */
+    @Column(name = "crawl_date")
+    private LocalDate crawlDate;
+
+    /**
+     * 전날 대비 조회수 증가량 (크롤링 저장 시 계산, 전날 데이터가 없거나 오류면 -1)
+     */
+    @Column(name = "views_increase")
+    private Long viewsIncrease;
+
+    /**
+     * 전날 대비 청취자수 증가량 (크롤링 저장 시 계산, 전날 데이터가 없거나 오류면 -1)
+     */
+    @Column(name = "listeners_increase")
+    private Long listenersIncrease;
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.rhoonart.unearth.crawling.entity;
+
+import com.rhoonart.unearth.global.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+/**
+ * 크롤링 실행 이력
+ * 크롤러 프로세스 한 번의 실행 상태와 결과를 기록한다.
+ */
+@Entity
+@Table(name = "crawling_run", indexes = {
+        @Index(name = "idx_crawling_run_type_state", columnList = "run_type, state"),
+        @Index(name = "idx_crawling_run_parent", columnList = "parent_run_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlingRun extends BaseEntity {
+
+    @Id
+    @UuidGenerator
+    @Column(length = 36, nullable = false, updatable = false, unique = true)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "run_type", nullable = false, length = 20)
+    private CrawlingRunType runType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private CrawlingRunState state;
+
+    @Column(name = "parent_run_id", length = 36)
+    private String parentRunId;
+
+    @Column(name = "label")
+    private String label;
+
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate;
+
+    @Column(name = "pid")
+    private Long pid;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Column(name = "exit_code")
+    private Integer exitCode;
+
+    @Column(name = "songs_total")
+    private Integer songsTotal;
+
+    @Column(name = "songs_processed")
+    private Integer songsProcessed;
+
+    @Column(name = "message")
+    private String message;
+
+    /**
+     * 프로세스 시작 기록
+     */
+    public void markRunning(long pid, LocalDateTime startedAt) {
+        this.state = CrawlingRunState.RUNNING;
+        this.pid = pid;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * 분할 실행 중 첫 프로세스 시작 기록
+     */
+    public void markRunning(LocalDateTime startedAt) {
+        if (this.state == CrawlingRunState.QUEUED) {
+            this.state = CrawlingRunState.RUNNING;
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * 프로세스 종료 기록
+     */
+    public void markFinished(CrawlingRunState state, Integer exitCode, Integer songsProcessed, String message) {
+        this.state = state;
+        this.exitCode = exitCode;
+        this.songsProcessed = songsProcessed;
+        this.message = message;
+        this.endedAt = LocalDateTime.now();
+    }
+}
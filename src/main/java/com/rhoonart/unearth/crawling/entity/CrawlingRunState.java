@@ -0,0 +1,24 @@
+package com.rhoonart.unearth.crawling.entity;
+
+import java.util.List;
+
+/**
+ * 크롤링 실행 상태
+ * QUEUED → RUNNING → SUCCEEDED / FAILED / TIMED_OUT
+ */
+public enum CrawlingRunState {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    TIMED_OUT;
+
+    /**
+     * 아직 끝나지 않은 상태 목록
+     */
+    public static final List<CrawlingRunState> ACTIVE_STATES = List.of(QUEUED, RUNNING);
+
+    public boolean isActive() {
+        return ACTIVE_STATES.contains(this);
+    }
+}
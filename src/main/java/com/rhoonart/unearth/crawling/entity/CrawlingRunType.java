@@ -0,0 +1,12 @@
+package com.rhoonart.unearth.crawling.entity;
+
+/**
+ * 크롤링 실행 종류
+ */
+public enum CrawlingRunType {
+    FULL,
+    /**
+     * 분할 전체 크롤링의 개별 프로세스 (parentRunId로 전체 실행과 연결)
+     */
+    SHARD
+}
@@ -0,0 +1,13 @@
+package com.rhoonart.unearth.crawling.exception;
+
+import com.rhoonart.unearth.common.ResponseCode;
+import com.rhoonart.unearth.common.exception.BaseException;
+
+/**
+ * 크롤링 프로세스 대기열이 가득 차 작업을 등록하지 못함 (잠시 후 다시 시도할 수 있음)
+ */
+public class CrawlingQueueFullException extends BaseException {
+    public CrawlingQueueFullException() {
+        super(ResponseCode.SERVER_ERROR, "크롤링 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -1,53 +1,132 @@
 package com.rhoonart.unearth.crawling.repository;
 
+import com.rhoonart.unearth.crawling.dto.CrawlDateRangeDto;
 import com.rhoonart.unearth.crawling.entity.CrawlingData;
 import com.rhoonart.unearth.crawling.entity.PlatformType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CrawlingDataRepository extends JpaRepository<CrawlingData, String> {
 
+        /**
+         * 기간 내 크롤링 데이터를 조회합니다.
+         * 기간은 [startDate, endDateExclusive) 반열린 구간이며, null이면 해당 방향으로 제한하지 않습니다.
+         */
         @Query("""
                             SELECT cd FROM CrawlingData cd
                             WHERE cd.song.id = :songId
                             AND (:platform IS NULL OR cd.platform = :platform)
-                            AND (:startDate IS NULL OR DATE(cd.createdAt) >= :startDate)
-                            AND (:endDate IS NULL OR DATE(cd.createdAt) <= :endDate)
-                            ORDER BY DATE(cd.createdAt) ASC, cd.platform ASC
+                            AND (:startDate IS NULL OR cd.crawlDate >= :startDate)
+                            AND (:endDateExclusive IS NULL OR cd.crawlDate < :endDateExclusive)
+                            ORDER BY cd.crawlDate ASC, cd.platform ASC
                         """)
         List<CrawlingData> findBySongIdAndDateRange(
                         @Param("songId") String songId,
                         @Param("platform") PlatformType platform,
                         @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate);
+                        @Param("endDateExclusive") LocalDate endDateExclusive);
 
         /**
-         * 페이징된 크롤링 데이터를 조회합니다.
-         * Spring Data JPA의 Pageable을 사용하여 DB 레벨에서 페이징 처리합니다.
+         * 여러 음원의 기간 내 크롤링 데이터를 음원별, 최신 날짜부터 스트림으로 조회합니다. (CSV 내보내기용)
+         * MySQL 드라이버가 결과를 한 번에 메모리로 읽지 않도록 행 단위 스트리밍(fetch size = Integer.MIN_VALUE)을 사용합니다.
+         * 스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 음원 정보는 미리 조회해 두어야 합니다.
          */
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
         @Query("""
                             SELECT cd FROM CrawlingData cd
+                            WHERE cd.song.id IN :songIds
+                            AND (:startDate IS NULL OR cd.crawlDate >= :startDate)
+                            AND (:endDateExclusive IS NULL OR cd.crawlDate < :endDateExclusive)
+                            ORDER BY cd.song.id ASC, cd.crawlDate DESC
+                        """)
+        Stream<CrawlingData> streamBySongIdsAndDateRange(
+                        @Param("songIds") Collection<String> songIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDateExclusive") LocalDate endDateExclusive);
+
+        /**
+         * 크롤링 데이터가 있는 날짜를 최신순으로 페이징 조회합니다. (페이지 번호 방식)
+         * 한 페이지는 N개의 날짜이며, 해당 날짜들의 행은 findBySongIdAndDateRange로 한 번에 조회합니다.
+         * 전체 건수는 날짜 수(COUNT DISTINCT)입니다.
+         */
+        @Query(value = """
+                            SELECT DISTINCT cd.crawlDate FROM CrawlingData cd
                             WHERE cd.song.id = :songId
                             AND (:platform IS NULL OR cd.platform = :platform)
-                            AND (:startDate IS NULL OR DATE(cd.createdAt) >= :startDate)
-                            AND (:endDate IS NULL OR DATE(cd.createdAt) <= :endDate)
-                            ORDER BY DATE(cd.createdAt) DESC, cd.platform ASC
+                            AND (:startDate IS NULL OR cd.crawlDate >= :startDate)
+                            AND (:endDateExclusive IS NULL OR cd.crawlDate < :endDateExclusive)
+                            ORDER BY cd.crawlDate DESC
+                        """, countQuery = """
+                            SELECT COUNT(DISTINCT cd.crawlDate) FROM CrawlingData cd
+                            WHERE cd.song.id = :songId
+                            AND (:platform IS NULL OR cd.platform = :platform)
+                            AND (:startDate IS NULL OR cd.crawlDate >= :startDate)
+                            AND (:endDateExclusive IS NULL OR cd.crawlDate < :endDateExclusive)
                         """)
-        Page<CrawlingData> findPagedCrawlingData(
+        Page<LocalDate> findPagedCrawlDates(
                         @Param("songId") String songId,
                         @Param("platform") PlatformType platform,
                         @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
+                        @Param("endDateExclusive") LocalDate endDateExclusive,
+                        Pageable pageable);
+
+        /**
+         * 조건에 맞는 크롤링 날짜 수 (커서 방식의 전체 건수)
+         * 한 곡의 인덱스 범위만 세므로 OFFSET 없이 곡 하나의 행 수에 비례합니다.
+         */
+        @Query("""
+                            SELECT COUNT(DISTINCT cd.crawlDate) FROM CrawlingData cd
+                            WHERE cd.song.id = :songId
+                            AND (:platform IS NULL OR cd.platform = :platform)
+                            AND (:startDate IS NULL OR cd.crawlDate >= :startDate)
+                            AND (:endDateExclusive IS NULL OR cd.crawlDate < :endDateExclusive)
+                        """)
+        long countCrawlDates(
+                        @Param("songId") String songId,
+                        @Param("platform") PlatformType platform,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDateExclusive") LocalDate endDateExclusive);
+
+        /**
+         * 커서 날짜 이전의 크롤링 데이터가 있는 날짜를 최신순으로 조회합니다. (커서 방식)
+         * OFFSET과 COUNT 없이 (song_id, crawl_date) 인덱스 범위 조회로 끝나므로 깊은 페이지도 비용이 일정합니다.
+         * Slice는 다음 페이지 존재 여부 확인을 위해 한 건 더 조회합니다. cursorDate가 null이면 첫 페이지입니다.
+         */
+        @Query("""
+                            SELECT DISTINCT cd.crawlDate FROM CrawlingData cd
+                            WHERE cd.song.id = :songId
+                            AND (:platform IS NULL OR cd.platform = :platform)
+                            AND (:startDate IS NULL OR cd.crawlDate >= :startDate)
+                            AND (:endDateExclusive IS NULL OR cd.crawlDate < :endDateExclusive)
+                            AND (:cursorDate IS NULL OR cd.crawlDate < :cursorDate)
+                            ORDER BY cd.crawlDate DESC
+                        """)
+        Slice<LocalDate> findCrawlDatesBefore(
+                        @Param("songId") String songId,
+                        @Param("platform") PlatformType platform,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDateExclusive") LocalDate endDateExclusive,
+                        @Param("cursorDate") LocalDate cursorDate,
                         Pageable pageable);
 
         /**
@@ -58,8 +137,7 @@ public interface CrawlingDataRepository extends JpaRepository<CrawlingData, Stri
                             SELECT cd FROM CrawlingData cd
                             WHERE cd.song.id = :songId
                             AND cd.platform = :platform
-                            AND DATE(cd.createdAt) = :date
-                            ORDER BY cd.createdAt DESC
+                            AND cd.crawlDate = :date
                         """)
         Optional<CrawlingData> findBySongIdAndPlatformAndDate(
                         @Param("songId") String songId,
@@ -68,4 +146,95 @@ public interface CrawlingDataRepository extends JpaRepository<CrawlingData, Stri
 
         boolean existsBySongId(String songId);
 
+        /**
+         * 음원들의 크롤링 데이터가 있는 최소/최대 날짜를 조회합니다.
+         * 기간 없이 전체를 조회할 때 (song_id, crawl_date) 인덱스로 실제 범위를 구해 이후 조회 범위를 좁히는 용도입니다.
+         */
+        @Query("""
+                            SELECT new com.rhoonart.unearth.crawling.dto.CrawlDateRangeDto(MIN(cd.crawlDate), MAX(cd.crawlDate))
+                            FROM CrawlingData cd
+                            WHERE cd.song.id IN :songIds
+                        """)
+        CrawlDateRangeDto findCrawlDateRange(@Param("songIds") Collection<String> songIds);
+
+        /**
+         * 특정 날짜에 크롤링 데이터가 저장된 곡 수를 조회합니다.
+         * 크롤링 실행 진행률 계산에 사용됩니다.
+         */
+        @Query("""
+                            SELECT COUNT(DISTINCT cd.song.id) FROM CrawlingData cd
+                            WHERE cd.crawlDate = :date
+                        """)
+        long countDistinctSongsByDate(@Param("date") LocalDate date);
+
+        /**
+         * crawl_date가 비어 있는 기존 행을 created_at 기준으로 채웁니다.
+         * 테이블 잠금을 짧게 유지하도록 한 번에 limit 건씩만 갱신합니다.
+         *
+         * @return 갱신된 행 수
+         */
+        @Modifying
+        @Transactional
+        @Query(value = """
+                            UPDATE crawling_data
+                            SET crawl_date = DATE(created_at)
+                            WHERE crawl_date IS NULL
+                            LIMIT :limit
+                        """, nativeQuery = true)
+        int backfillCrawlDate(@Param("limit") int limit);
+
+        /**
+         * 같은 곡/플랫폼/날짜에 중복 저장된 행 중 가장 최근 행만 남기고 삭제합니다.
+         * 유니크 제약을 추가하기 전에 기존 데이터를 정리하는 용도입니다.
+         *
+         * @return 삭제된 행 수
+         */
+        @Modifying
+        @Transactional
+        @Query(value = """
+                            DELETE cd FROM crawling_data cd
+                            JOIN (
+                                SELECT id FROM (
+                                    SELECT id, ROW_NUMBER() OVER (
+                                        PARTITION BY song_id, platform, crawl_date
+                                        ORDER BY created_at DESC, id DESC
+                                    ) AS rn
+                                    FROM crawling_data
+                                    WHERE crawl_date IS NOT NULL
+                                ) ranked
+                                WHERE ranked.rn > 1
+                            ) duplicated ON cd.id = duplicated.id
+                        """, nativeQuery = true)
+        int deleteDuplicatedDailyRows();
+
+        /**
+         * 증가량이 비어 있는 행의 전날 대비 증가량을 채웁니다.
+         * 계산 규칙은 CalculateIncreaseDataService.calculateIncrease와 같습니다. (둘 중 하나라도 음수면 -1)
+         * 다중 테이블 UPDATE는 LIMIT을 쓸 수 없으므로 대상 ID를 limit 건씩 먼저 골라 갱신합니다.
+         *
+         * @return 갱신된 행 수
+         */
+        @Modifying
+        @Transactional
+        @Query(value = """
+                            UPDATE crawling_data cd
+                            JOIN (
+                                SELECT id FROM crawling_data
+                                WHERE views_increase IS NULL
+                                AND crawl_date IS NOT NULL
+                                LIMIT :limit
+                            ) target ON cd.id = target.id
+                            LEFT JOIN crawling_data prev
+                                ON prev.song_id = cd.song_id
+                                AND prev.platform = cd.platform
+                                AND prev.crawl_date = cd.crawl_date - INTERVAL 1 DAY
+                            SET cd.views_increase = CASE
+                                    WHEN prev.id IS NOT NULL AND cd.views >= 0 AND prev.views >= 0
+                                    THEN cd.views - prev.views ELSE -1 END,
+                                cd.listeners_increase = CASE
+                                    WHEN prev.id IS NOT NULL AND cd.listeners >= 0 AND prev.listeners >= 0
+                                    THEN cd.listeners - prev.listeners ELSE -1 END
+                        """, nativeQuery = true)
+        int backfillIncrease(@Param("limit") int limit);
+
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,23 @@ public interface CrawlingPeriodRepository extends JpaRepository<CrawlingPeriod,
                         """)
         Optional<CrawlingPeriod> findLatestBySong(@Param("song") SongInfo song);
 
+        /**
+         * 여러 음원의 가장 최근 크롤링 기간을 한 번에 조회합니다. (음원별 최대 1건)
+         * findLatestBySong과 같은 기준(생성일 최신)이며, 목록 페이지의 곡별 조회를 대신합니다.
+         */
+        @Query(value = """
+                            SELECT * FROM (
+                                SELECT cp.*, ROW_NUMBER() OVER (
+                                    PARTITION BY cp.song_id
+                                    ORDER BY cp.created_at DESC, cp.id DESC
+                                ) AS rn
+                                FROM crawling_period cp
+                                WHERE cp.song_id IN (:songIds)
+                            ) ranked
+                            WHERE ranked.rn = 1
+                        """, nativeQuery = true)
+        List<CrawlingPeriod> findLatestBySongIds(@Param("songIds") Collection<String> songIds);
+
         /**
          * 특정 음원의 특정 시작일 크롤링 기간을 조회합니다.
          */
@@ -66,6 +84,47 @@ public interface CrawlingPeriodRepository extends JpaRepository<CrawlingPeriod,
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
+        /**
+         * 여러 음원의 날짜 범위와 겹치는 크롤링 기간을 일괄 조회합니다.
+         * 날짜가 null이면 해당 방향으로 제한하지 않습니다.
+         */
+        @Query("""
+                            SELECT cp FROM CrawlingPeriod cp
+                            WHERE cp.song.id IN :songIds
+                            AND (:endDate IS NULL OR cp.startDate <= :endDate)
+                            AND (:startDate IS NULL OR cp.endDate >= :startDate)
+                            AND cp.isActive = true
+                            ORDER BY cp.songOrder ASC
+                        """)
+        List<CrawlingPeriod> findBySongIdsAndDateRange(
+                        @Param("songIds") Collection<String> songIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * 특정 날짜에 크롤링 대상인 곡 수를 조회합니다.
+         */
+        @Query("""
+                            SELECT COUNT(DISTINCT cp.song.id) FROM CrawlingPeriod cp
+                            WHERE cp.startDate <= :date
+                            AND cp.endDate >= :date
+                            AND cp.isActive = true
+                        """)
+        long countActiveSongsOnDate(@Param("date") LocalDate date);
+
+        /**
+         * 특정 날짜에 크롤링 대상인 곡 ID 목록을 조회합니다.
+         * 분할 전체 크롤링의 곡 분배에 사용됩니다.
+         */
+        @Query("""
+                            SELECT DISTINCT cp.song.id FROM CrawlingPeriod cp
+                            WHERE cp.startDate <= :date
+                            AND cp.endDate >= :date
+                            AND cp.isActive = true
+                            ORDER BY cp.song.id
+                        """)
+        List<String> findActiveSongIdsOnDate(@Param("date") LocalDate date);
+
         /**
          * 특정 음원의 모든 크롤링 기간을 조회합니다. (디버깅용)
          */
@@ -0,0 +1,26 @@
+package com.rhoonart.unearth.crawling.repository;
+
+import com.rhoonart.unearth.crawling.entity.CrawlingRun;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunState;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CrawlingRunRepository extends JpaRepository<CrawlingRun, String> {
+
+    boolean existsByRunTypeAndStateIn(CrawlingRunType runType, Collection<CrawlingRunState> states);
+
+    List<CrawlingRun> findByStateIn(Collection<CrawlingRunState> states);
+
+    List<CrawlingRun> findByParentRunIdOrderByCreatedAtAsc(String parentRunId);
+
+    /**
+     * 가장 최근에 등록된 실행을 조회합니다.
+     */
+    Optional<CrawlingRun> findFirstByRunTypeOrderByCreatedAtDesc(CrawlingRunType runType);
+}
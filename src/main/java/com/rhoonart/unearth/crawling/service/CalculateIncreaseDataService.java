@@ -12,4 +12,11 @@ public class CalculateIncreaseDataService {
         // 데이터가 없거나 오류일 경우
         return -1;
     }
+
+    /**
+     * 저장된 증가량을 화면/CSV 표시용 값으로 변환 (아직 계산되지 않은 경우 -1)
+     */
+    public static long storedIncrease(Long increase) {
+        return increase != null ? increase : -1;
+    }
 }
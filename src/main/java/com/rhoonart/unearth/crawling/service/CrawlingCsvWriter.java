@@ -0,0 +1,134 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.crawling.dto.VideoInfoDto;
+import com.rhoonart.unearth.crawling.entity.CrawlingData;
+import com.rhoonart.unearth.song.entity.SongInfo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 크롤링 데이터 CSV 작성기
+ * 하루치 행을 받아 바로 Writer에 쓰므로 전체 파일을 메모리에 만들지 않는다.
+ */
+class CrawlingCsvWriter {
+
+    static final String UTF8_BOM = "\uFEFF";
+    static final String HEADER = "날짜,아티스트명,노래제목,플랫폼,조회수,조회수증가,청취자수,청취자수증가,영상정보(채널명/제목/url/순서/조회수)\n";
+
+    private final Writer writer;
+
+    CrawlingCsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * BOM(엑셀 한글 인식용)과 헤더를 씁니다.
+     */
+    void writeHeader() throws IOException {
+        writer.write(UTF8_BOM);
+        writer.write(HEADER);
+    }
+
+    /**
+     * 한 곡의 하루치 데이터를 플랫폼 순서대로 씁니다.
+     *
+     * @param songInfo   음원 정보
+     * @param date       날짜
+     * @param dayRows    해당 날짜의 플랫폼별 데이터 (전날 대비 증가량 포함)
+     * @param videoInfos 해당 날짜의 영상 정보
+     */
+    void writeDay(SongInfo songInfo, LocalDate date, List<CrawlingData> dayRows, List<VideoInfoDto> videoInfos)
+            throws IOException {
+        String videoInfo = formatVideoInfos(videoInfos);
+        String artist = escapeCsvField(songInfo.getArtistKo());
+        String title = escapeCsvField(songInfo.getTitleKo());
+
+        List<CrawlingData> sortedRows = dayRows.stream()
+                .sorted(Comparator.comparing(CrawlingData::getPlatform))
+                .toList();
+        for (CrawlingData currentData : sortedRows) {
+            long viewsIncrease = CalculateIncreaseDataService.storedIncrease(currentData.getViewsIncrease());
+            long listenersIncrease = CalculateIncreaseDataService.storedIncrease(currentData.getListenersIncrease());
+
+            writer.write(date.toString());
+            writer.write(',');
+            writer.write(artist);
+            writer.write(',');
+            writer.write(title);
+            writer.write(',');
+            writer.write(currentData.getPlatform().name());
+            writer.write(',');
+            writer.write(formatNumericValue(currentData.getViews()));
+            writer.write(',');
+            writer.write(formatNumericValue(viewsIncrease));
+            writer.write(',');
+            writer.write(formatNumericValue(currentData.getListeners()));
+            writer.write(',');
+            writer.write(formatNumericValue(listenersIncrease));
+            writer.write(",\"");
+            writer.write(videoInfo.replace("\"", "\"\""));
+            writer.write("\"\n");
+        }
+    }
+
+    private String formatVideoInfos(List<VideoInfoDto> videoInfos) {
+        if (videoInfos == null || videoInfos.isEmpty()) {
+            return "";
+        }
+        return videoInfos.stream()
+                .map(v -> String.format("%s / %s / %s / %d / %s",
+                        v.getChannel() != null ? v.getChannel() : "-",
+                        v.getYoutubeTitle() != null ? v.getYoutubeTitle() : "-",
+                        v.getYoutubeUrl() != null ? v.getYoutubeUrl() : "-",
+                        v.getSongOrder(),
+                        formatVideoViewCount(v.getViewCount())))
+                .collect(Collectors.joining(" | ")); // 여러 영상은 | 로 구분
+    }
+
+    /**
+     * CSV 필드 이스케이프 처리
+     */
+    private String escapeCsvField(String field) {
+        if (field == null) {
+            return "";
+        }
+        // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 이스케이프
+        if (field.contains(",") || field.contains("\"") || field.contains("\n")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+
+    /**
+     * 숫자 값을 CSV 형식으로 변환
+     * -1: "-", -999: "Fail", 그 외: 숫자 그대로
+     */
+    private String formatNumericValue(long value) {
+        if (value == -1) {
+            return "-"; // 데이터 없음 (HTML과 일관성)
+        } else if (value == -999) {
+            return "Fail"; // 오류
+        } else {
+            return String.valueOf(value); // 숫자 그대로
+        }
+    }
+
+    /**
+     * 영상 조회수를 CSV 형식으로 변환
+     * null: "-", -999: "Fail", 그 외: 숫자 그대로
+     */
+    private String formatVideoViewCount(Integer viewCount) {
+        if (viewCount == null) {
+            return "-"; // 크롤링되지 않음
+        } else if (viewCount == -999) {
+            return "Fail"; // 크롤링 실패
+        } else {
+            return String.valueOf(viewCount); // 숫자 그대로
+        }
+    }
+}
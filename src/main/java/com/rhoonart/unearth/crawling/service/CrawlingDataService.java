@@ -4,6 +4,7 @@ import com.rhoonart.unearth.common.ResponseCode;
 import com.rhoonart.unearth.common.exception.BaseException;
 import com.rhoonart.unearth.common.util.DataAuthorityService;
 import com.rhoonart.unearth.common.util.ValidateInput;
+import com.rhoonart.unearth.crawling.dto.CrawlingDataCursorDto;
 import com.rhoonart.unearth.crawling.dto.CrawlingDataDto;
 import com.rhoonart.unearth.crawling.dto.CrawlingDataWithSongInfoDto;
 import com.rhoonart.unearth.crawling.dto.VideoInfoDto;
@@ -18,16 +19,15 @@ import com.rhoonart.unearth.user.dto.UserDto;
 import com.rhoonart.unearth.user.exception.ForbiddenException;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -39,10 +39,16 @@ public class CrawlingDataService {
         private final CrawlingDataRepository crawlingDataRepository;
         private final CrawlingPeriodService crawlingPeriodService;
         private final DataAuthorityService dataAuthorityService;
+        private final CrawlingSeriesCache crawlingSeriesCache;
 
+        /**
+         * 크롤링 데이터 조회 (날짜별 그룹화 + 페이지네이션)
+         * cursor가 null이면 페이지 번호(OFFSET) 방식, null이 아니면 커서 방식으로 조회합니다.
+         * (빈 문자열 커서는 커서 방식의 첫 페이지)
+         */
         public CrawlingDataWithSongInfoDto getCrawlingDataWithFilters(UserDto userDto, String songId,
                         String startDateStr,
-                        String endDateStr, String platformTypeStr, int page, int days) {
+                        String endDateStr, String platformTypeStr, int page, int days, String cursor) {
                 // 음원 존재 여부 확인
                 SongInfo songInfo = songInfoRepository.findById(songId)
                                 .orElseThrow(() -> new BaseException(ResponseCode.NOT_FOUND, "음원을 찾을 수 없습니다."));
@@ -61,62 +67,183 @@ public class CrawlingDataService {
                         platform = PlatformType.fromString(platformTypeStr);
                 }
 
-                // 일수를 페이지 크기로 변환
-                int size = ValidateInput.restrictCrawlingDataPageSize(days);
+                // 한 페이지에 표시할 일수 (페이지는 날짜 단위로 모든 플랫폼을 포함)
+                days = ValidateInput.restrictCrawlingDataDays(days);
+
+                // 종료일 포함을 위해 다음 날 미만으로 조회
+                LocalDate endDateExclusive = endDate != null ? endDate.plusDays(1) : null;
+
+                // 캐시할 수 있는 곡은 곡 전체 시계열을 캐시에서 꺼내 메모리에서 페이지를 자름
+                if (crawlingSeriesCache.isCacheable(songInfo)) {
+                        CrawlingSeries series = crawlingSeriesCache.get(songId, this::loadSeries);
+                        return getCrawlingDataFromSeries(songInfo, series, platform, startDate, endDateExclusive,
+                                        page, days, cursor);
+                }
+
+                if (cursor != null) {
+                        return getCrawlingDataByCursor(songInfo, platform, startDate, endDateExclusive, days,
+                                        CrawlingDataCursorDto.parse(cursor));
+                }
+
                 page = ValidateInput.calculatePageNumber(page);
 
                 // 1. Pageable 생성 (실제로 데이터 상 페이지는 0부터 시작하므로 -1)
-                Pageable pageable = PageRequest.of(page - 1, size);
-
-                // 2. DB 레벨에서 페이징된 데이터 조회 (쿼리 1)
-                Page<CrawlingData> pagedResult = crawlingDataRepository.findPagedCrawlingData(
-                                songId, platform, startDate, endDate, pageable);
-
-                // 3. 페이징된 데이터에서 날짜 범위 추출
-                List<CrawlingData> crawlingDataList = pagedResult.getContent();
-                if (crawlingDataList.isEmpty()) {
-                        // 데이터가 없는 경우 빈 결과 반환
-                        PageInfoDto pageInfo = PageInfoDto.builder()
-                                        .totalPages(0)
-                                        .totalElements(0L)
+                Pageable pageable = PageRequest.of(page - 1, days);
+
+                // 2. 이번 페이지의 날짜 N개 조회 (쿼리 1, 전체 건수는 날짜 수)
+                Page<LocalDate> pagedDates = crawlingDataRepository.findPagedCrawlDates(
+                                songId, platform, startDate, endDateExclusive, pageable);
+
+                // 3. 해당 날짜들의 모든 플랫폼 데이터를 한 번의 범위 조회로 가져와 날짜별로 그룹화
+                List<DateGroupedCrawlingDataDto> groupedDataList = getGroupedDataForDates(songId, platform,
+                                pagedDates.getContent());
+
+                // 4. 페이지네이션 정보 생성
+                PageInfoDto pageInfo = PageInfoDto.builder()
+                                .totalPages(pagedDates.getTotalPages())
+                                .totalElements(pagedDates.getTotalElements())
+                                .currentPage(page)
+                                .pageSize(days)
+                                .build();
+
+                // 5. 최종 응답 생성
+                return CrawlingDataWithSongInfoDto.of(songInfo, groupedDataList)
+                                .withPageInfo(pageInfo);
+        }
+
+        /**
+         * 커서 방식 조회
+         * 커서 날짜 이전의 날짜 N개를 OFFSET 없이 인덱스 범위로 조회합니다.
+         * 전체 건수는 페이지 번호 방식, 캐시 조회와 같이 날짜 수이며 페이지 수도 날짜 수로 계산합니다.
+         */
+        private CrawlingDataWithSongInfoDto getCrawlingDataByCursor(SongInfo songInfo, PlatformType platform,
+                        LocalDate startDate, LocalDate endDateExclusive, int days, CrawlingDataCursorDto after) {
+                // 1. 커서 이전 날짜 N개 조회 (쿼리 1, 다음 페이지 확인용으로 한 건 더 조회)
+                Slice<LocalDate> dates = crawlingDataRepository.findCrawlDatesBefore(
+                                songInfo.getId(), platform, startDate, endDateExclusive,
+                                after != null ? after.getCrawlDate() : null,
+                                PageRequest.of(0, days));
+
+                // 2. 해당 날짜들의 데이터를 날짜별로 그룹화
+                List<DateGroupedCrawlingDataDto> groupedDataList = getGroupedDataForDates(songInfo.getId(), platform,
+                                dates.getContent());
+
+                // 3. 전체 날짜 수와 페이지 수 (페이지 번호 방식과 같은 날짜 단위)
+                long totalElements = crawlingDataRepository.countCrawlDates(songInfo.getId(), platform, startDate,
+                                endDateExclusive);
+                int totalPages = (int) ((totalElements + days - 1) / days);
+
+                // 4. 페이지네이션 정보 생성 (다음 커서는 이번 페이지의 가장 이른 날짜)
+                List<LocalDate> pageDates = dates.getContent();
+                PageInfoDto pageInfo = PageInfoDto.builder()
+                                .cursorMode(true)
+                                .nextCursor(dates.hasNext()
+                                                ? new CrawlingDataCursorDto(pageDates.get(pageDates.size() - 1))
+                                                                .encode()
+                                                : null)
+                                .totalPages(totalPages)
+                                .totalElements(totalElements)
+                                .pageSize(days)
+                                .build();
+
+                return CrawlingDataWithSongInfoDto.of(songInfo, groupedDataList)
+                                .withPageInfo(pageInfo);
+        }
+
+        /**
+         * 캐시된 곡 시계열에서 페이지 조회
+         * 페이지 번호 방식과 커서 방식 모두 날짜 목록을 메모리에서 잘라 DB 조회 없이 응답합니다.
+         */
+        private CrawlingDataWithSongInfoDto getCrawlingDataFromSeries(SongInfo songInfo, CrawlingSeries series,
+                        PlatformType platform, LocalDate startDate, LocalDate endDateExclusive, int page, int days,
+                        String cursor) {
+                // 1. 조건에 맞는 날짜 목록 (최신순)
+                List<LocalDate> dates = series.getDates(platform, startDate, endDateExclusive);
+                int totalPages = (dates.size() + days - 1) / days;
+
+                // 2. 이번 페이지의 날짜 범위 계산
+                PageInfoDto pageInfo;
+                int from;
+                int to;
+                if (cursor != null) {
+                        CrawlingDataCursorDto after = CrawlingDataCursorDto.parse(cursor);
+                        from = 0;
+                        while (after != null && from < dates.size()
+                                        && !dates.get(from).isBefore(after.getCrawlDate())) {
+                                from++;
+                        }
+                        to = Math.min(from + days, dates.size());
+
+                        pageInfo = PageInfoDto.builder()
+                                        .cursorMode(true)
+                                        .nextCursor(to < dates.size()
+                                                        ? new CrawlingDataCursorDto(dates.get(to - 1)).encode()
+                                                        : null)
+                                        .totalPages(totalPages)
+                                        .totalElements((long) dates.size())
+                                        .pageSize(days)
+                                        .build();
+                } else {
+                        page = ValidateInput.calculatePageNumber(page);
+                        from = (int) Math.min((long) (page - 1) * days, dates.size());
+                        to = Math.min(from + days, dates.size());
+                        pageInfo = PageInfoDto.builder()
+                                        .totalPages(totalPages)
+                                        .totalElements((long) dates.size())
                                         .currentPage(page)
-                                        .pageSize(size)
+                                        .pageSize(days)
                                         .build();
-                        return CrawlingDataWithSongInfoDto.of(songInfo, new ArrayList<>())
-                                        .withPageInfo(pageInfo);
                 }
 
-                // 페이징된 데이터의 최소/최대 날짜 추출
-                LocalDate minDate = crawlingDataList.stream()
-                                .map(data -> data.getCreatedAt().toLocalDate())
-                                .min(LocalDate::compareTo)
-                                .orElse(LocalDate.now());
-                LocalDate maxDate = crawlingDataList.stream()
-                                .map(data -> data.getCreatedAt().toLocalDate())
-                                .max(LocalDate::compareTo)
-                                .orElse(LocalDate.now());
-
-                // 4. 해당 기간의 모든 영상 정보 일괄 조회 (쿼리 2)
+                // 3. 날짜별 그룹화된 데이터 생성
+                List<DateGroupedCrawlingDataDto> groupedDataList = dates.subList(from, to).stream()
+                                .map(date -> DateGroupedCrawlingDataDto.builder()
+                                                .date(date)
+                                                .dataList(series.getRows(date, platform))
+                                                .videoInfos(series.getVideoInfos(date))
+                                                .build())
+                                .toList();
+
+                return CrawlingDataWithSongInfoDto.of(songInfo, groupedDataList)
+                                .withPageInfo(pageInfo);
+        }
+
+        /**
+         * 곡 전체 시계열 조회 (캐시 미스 시, 쿼리 3번)
+         */
+        private CrawlingSeries loadSeries(String songId) {
+                List<CrawlingData> rows = crawlingDataRepository.findBySongIdAndDateRange(songId, null, null, null);
+                Map<LocalDate, List<VideoInfoDto>> videoInfos = crawlingPeriodService
+                                .getVideoInfosForSongs(List.of(songId), null, null)
+                                .getOrDefault(songId, Map.of());
+                return CrawlingSeries.of(rows, videoInfos);
+        }
+
+        /**
+         * 선택된 날짜들의 모든 플랫폼 데이터를 날짜별(최신순)로 그룹화하고 영상 정보를 붙입니다.
+         * 날짜들은 연속된 구간이므로 [최소 날짜, 최대 날짜] 범위 한 번으로 조회합니다.
+         */
+        private List<DateGroupedCrawlingDataDto> getGroupedDataForDates(String songId, PlatformType platform,
+                        List<LocalDate> dates) {
+                if (dates.isEmpty()) {
+                        return new ArrayList<>();
+                }
+
+                LocalDate minDate = dates.stream().min(LocalDate::compareTo).orElseThrow();
+                LocalDate maxDate = dates.stream().max(LocalDate::compareTo).orElseThrow();
+
+                // 해당 날짜들의 크롤링 데이터 조회 (쿼리 2, 종료일 포함을 위해 다음 날 미만으로 조회)
+                List<CrawlingData> crawlingDataList = crawlingDataRepository.findBySongIdAndDateRange(
+                                songId, platform, minDate, maxDate.plusDays(1));
+
+                // 해당 기간의 모든 영상 정보 일괄 조회 (쿼리 3)
                 Map<LocalDate, List<VideoInfoDto>> allVideoInfos = crawlingPeriodService
                                 .getVideoInfosForDateRange(songId, minDate, maxDate);
 
-                // 5. 첫 번째 날짜의 이전 날짜 데이터만 조회 (쿼리 3)
-                LocalDate firstDate = minDate;
-                LocalDate previousDate = firstDate.minusDays(1);
-                Map<String, CrawlingData> previousDataMap = crawlingDataRepository
-                                .findBySongIdAndDateRange(songId, null, previousDate, previousDate)
-                                .stream()
-                                .collect(Collectors.toMap(
-                                                data -> data.getPlatform().name(),
-                                                data -> data,
-                                                (existing, replacement) -> existing // 중복 시 기존 값 유지
-                                ));
-
-                // 6. 날짜별로 그룹화
+                // 날짜별로 그룹화
                 Map<LocalDate, List<CrawlingData>> dataByDate = crawlingDataList.stream()
-                                .collect(Collectors.groupingBy(data -> data.getCreatedAt().toLocalDate()));
+                                .collect(Collectors.groupingBy(CrawlingData::getCrawlDate));
 
-                // 7. 날짜별로 그룹화된 데이터 리스트 생성
                 List<DateGroupedCrawlingDataDto> groupedDataList = new ArrayList<>();
 
                 // 날짜 순서대로 정렬 (최신순)
@@ -124,17 +251,6 @@ public class CrawlingDataService {
                                 .sorted((date1, date2) -> date2.compareTo(date1)) // 최신순
                                 .toList();
 
-                // 페이지 내 데이터를 플랫폼별로 그룹화 (이전 날짜 데이터 찾기용)
-                Map<String, Map<LocalDate, CrawlingData>> pageDataByPlatformAndDate = new HashMap<>();
-                for (CrawlingData data : crawlingDataList) {
-                        String platformKey = data.getPlatform().name();
-                        LocalDate dataDate = data.getCreatedAt().toLocalDate();
-                        
-                        pageDataByPlatformAndDate
-                                .computeIfAbsent(platformKey, k -> new HashMap<>())
-                                .put(dataDate, data);
-                }
-
                 for (LocalDate currentDate : sortedDates) {
                         List<CrawlingData> currentDataList = dataByDate.get(currentDate);
 
@@ -145,47 +261,7 @@ public class CrawlingDataService {
                         List<CrawlingDataDto> currentDateDataList = new ArrayList<>();
 
                         for (CrawlingData currentData : currentDataList) {
-                                CrawlingData previousData = null;
-                                
-                                if (currentDate.equals(firstDate)) {
-                                        // 첫 번째 날짜: DB에서 조회한 이전 날짜 데이터 사용
-                                        previousData = previousDataMap.get(currentData.getPlatform().name());
-                                } else {
-                                        // 나머지 날짜: 페이지 내 이전 날짜 데이터 찾기
-                                        LocalDate previousDateInPage = currentDate.minusDays(1);
-                                        String platformKey = currentData.getPlatform().name();
-                                        
-                                        Map<LocalDate, CrawlingData> platformData = pageDataByPlatformAndDate.get(platformKey);
-                                        if (platformData != null) {
-                                                previousData = platformData.get(previousDateInPage);
-                                        }
-                                }
-
-                                long viewsIncrease = -1; // 기본값: 이전 데이터 없음
-                                long listenersIncrease = -1; // 기본값: 이전 데이터 없음
-
-                                if (previousData != null) {
-                                        // 조회수 증가량 계산
-                                        viewsIncrease = CalculateIncreaseDataService.calculateIncrease(
-                                                        currentData.getViews(),
-                                                        previousData.getViews());
-
-                                        // 청취자수 증가량 계산
-                                        listenersIncrease = CalculateIncreaseDataService.calculateIncrease(
-                                                        currentData.getListeners(),
-                                                        previousData.getListeners());
-                                }
-
-                                // 그룹화된 데이터용 CrawlingDataDto 생성
-                                CrawlingDataDto crawlingDataDto = CrawlingDataDto.ofBasicData(
-                                                currentDate,
-                                                currentData.getPlatform(),
-                                                currentData.getViews(),
-                                                currentData.getListeners(),
-                                                viewsIncrease,
-                                                listenersIncrease);
-
-                                currentDateDataList.add(crawlingDataDto);
+                                currentDateDataList.add(CrawlingSeries.toDto(currentData));
                         }
 
                         // 날짜별 그룹화된 데이터 생성
@@ -198,16 +274,6 @@ public class CrawlingDataService {
                         groupedDataList.add(groupedData);
                 }
 
-                // 8. 페이지네이션 정보 생성
-                PageInfoDto pageInfo = PageInfoDto.builder()
-                                .totalPages(pagedResult.getTotalPages())
-                                .totalElements(pagedResult.getTotalElements())
-                                .currentPage(page)
-                                .pageSize(size)
-                                .build();
-
-                // 9. 최종 응답 생성
-                return CrawlingDataWithSongInfoDto.of(songInfo, groupedDataList)
-                                .withPageInfo(pageInfo);
+                return groupedDataList;
         }
 }
@@ -1,198 +1,208 @@
 package com.rhoonart.unearth.crawling.service;
 
-import lombok.RequiredArgsConstructor;
+import com.rhoonart.unearth.common.ResponseCode;
+import com.rhoonart.unearth.common.exception.BaseException;
+import com.rhoonart.unearth.crawling.dto.CrawlingProcessResultDto;
+import com.rhoonart.unearth.crawling.dto.CrawlingShardDto;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * 크롤링 실행 서비스
+ * 프로세스 실행은 {@link CrawlingProcessSupervisor}에 맡겨 동시 실행 수를 제한한다.
+ * 단일 곡 요청은 짧은 시간 동안 모아 크롤러 한 번으로 실행해 Python/Selenium 기동 비용을 나눈다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CrawlingExecuteService {
 
     private static final String DJANGO_PROJECT_PATH = "streaming_crawling";
     private static final String SINGLE_SONG_CRAWLING_PATH = "crawling/entrypoint/run_single_song_crawling.py";
     private static final String FULL_CRAWLING_PATH = "crawling/entrypoint/run_crawling.py";
 
+    private final CrawlingProcessSupervisor crawlingProcessSupervisor;
+    private final Duration singleSongTimeout;
+    private final Duration batchMaxTimeout;
+    private final Duration fullCrawlingTimeout;
+    private final SongCrawlingBatcher songCrawlingBatcher;
+
+    public CrawlingExecuteService(CrawlingProcessSupervisor crawlingProcessSupervisor,
+            @Value("${crawling.process.timeout-minutes:30}") long singleSongTimeoutMinutes,
+            @Value("${crawling.process.batch-max-timeout-minutes:120}") long batchMaxTimeoutMinutes,
+            @Value("${crawling.process.full-timeout-minutes:360}") long fullCrawlingTimeoutMinutes,
+            @Value("${crawling.batch.window-millis:3000}") long batchWindowMillis,
+            @Value("${crawling.batch.max-size:20}") int batchMaxSize) {
+        this.crawlingProcessSupervisor = crawlingProcessSupervisor;
+        this.singleSongTimeout = Duration.ofMinutes(singleSongTimeoutMinutes);
+        this.batchMaxTimeout = Duration.ofMinutes(Math.max(batchMaxTimeoutMinutes, singleSongTimeoutMinutes));
+        this.fullCrawlingTimeout = Duration.ofMinutes(fullCrawlingTimeoutMinutes);
+        this.songCrawlingBatcher = new SongCrawlingBatcher(this::executeSongBatchCrawling,
+                Duration.ofMillis(batchWindowMillis), batchMaxSize);
+    }
+
     /**
      * 단일 곡 크롤링을 실행합니다.
-     * 
+     * 요청은 배치에 모였다가 다른 곡들과 함께 한 프로세스로 실행됩니다.
+     *
      * @param songId 크롤링할 곡의 ID
+     * @return 곡이 포함된 프로세스 종료 시 완료되는 결과
      */
-    public void executeSingleSongCrawling(String songId) {
-        try {
-            // Django 프로젝트 경로 설정
-            Path djangoPath = Paths.get(DJANGO_PROJECT_PATH);
-
-            // 운영체제별 명령어 생성
-            List<String> command;
-            if (CrawlingCommandUtil.isWindows()) {
-                command = CrawlingCommandUtil.createWindowsCommand(
-                        SINGLE_SONG_CRAWLING_PATH, "--song_id", songId);
-            } else {
-                command = CrawlingCommandUtil.createLinuxCommand(SINGLE_SONG_CRAWLING_PATH,
-                        "--song_id", songId);
-            }
-
-            // ProcessBuilder 생성
-            ProcessBuilder processBuilder = new ProcessBuilder(command);
-
-            // 작업 디렉토리 설정
-            if (CrawlingCommandUtil.isWindows()) {
-                processBuilder.directory(Paths.get(".").toFile()); // Windows: 프로젝트 루트에서 실행
-            } else {
-                processBuilder.directory(djangoPath.toFile()); // Linux: streaming_crawling 폴더에서 실행
-            }
-
-            // 환경 변수 설정 (Linux 환경에서만)
-            if (!CrawlingCommandUtil.isWindows()) {
-                Map<String, String> env = processBuilder.environment();
-                env.put("PYTHONPATH", djangoPath.resolve(DJANGO_PROJECT_PATH).toString());
-                env.put("PYTHONUNBUFFERED", "1");
-            }
-
-            // 프로세스 실행
-            Process process = processBuilder.start();
-
-            // 출력 스트림 읽기 (별도 스레드에서)
-            new Thread(() -> {
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        log.info("크롤링 출력: {}", line);
-                    }
-                } catch (IOException e) {
-                    log.error("크롤링 출력 읽기 오류", e);
-                }
-            }).start();
-
-            // 에러 스트림 읽기 (별도 스레드에서)
-            new Thread(() -> {
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getErrorStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        // Django 로그는 대부분 정보성 메시지이므로 INFO 레벨로 로깅
-                        if (line.contains("ERROR") || line.contains("Exception") || line.contains("Traceback")) {
-                            log.error("크롤링 에러: {}", line);
-                        } else {
-                            log.info("크롤링 로그: {}", line);
-                        }
-                    }
-                } catch (IOException e) {
-                    log.error("크롤링 에러 읽기 오류", e);
-                }
-            }).start();
-
-            // 비동기 실행 - 프로세스 시작 후 즉시 반환
-            log.info("크롤링 실행 시작됨: songId={}", songId);
+    public CompletableFuture<CrawlingProcessResultDto> executeSingleSongCrawling(String songId) {
+        // 비동기 실행 - 배치 등록 후 즉시 반환
+        return songCrawlingBatcher.add(songId);
+    }
 
-        } catch (IOException e) {
-            log.error("크롤링 프로세스 실행 오류: songId={}", songId, e);
-            throw new RuntimeException("크롤링 프로세스 실행 중 오류가 발생했습니다.", e);
-        }
+    /**
+     * 여러 곡을 하나의 크롤러 프로세스로 실행합니다.
+     *
+     * @param songIds 크롤링할 곡 ID 목록
+     * @return 프로세스 종료 시 완료되는 결과
+     */
+    public CompletableFuture<CrawlingProcessResultDto> executeSongBatchCrawling(List<String> songIds) {
+        List<String> args = new ArrayList<>();
+        args.add("--song_ids");
+        args.addAll(songIds);
+        ProcessBuilder processBuilder = createProcessBuilder(SINGLE_SONG_CRAWLING_PATH, args.toArray(String[]::new));
+
+        // 곡 수만큼 실행 시간이 늘어나므로 타임아웃도 곡 수에 비례하되, 멈춘 프로세스가 슬롯을 오래 잡지 않도록 상한 적용
+        Duration scaledTimeout = singleSongTimeout.multipliedBy(songIds.size());
+        Duration timeout = scaledTimeout.compareTo(batchMaxTimeout) > 0 ? batchMaxTimeout : scaledTimeout;
+        String label = songIds.size() == 1
+                ? "단일 곡 크롤링(songId=" + songIds.get(0) + ")"
+                : "단일 곡 크롤링(" + songIds.size() + "곡, 첫 songId=" + songIds.get(0) + ")";
+        return crawlingProcessSupervisor.submit(label, processBuilder, timeout);
     }
 
     /**
      * 전체 크롤링을 실행합니다.
+     *
+     * @param targetDate 크롤링 기준 날짜
+     * @param resume     true면 기준 날짜에 이미 저장된 곡/플랫폼은 건너뜀
+     * @param onStart    대기열을 지나 프로세스가 시작되면 호출되는 콜백
+     * @return 프로세스 종료 시 완료되는 결과
+     */
+    public CompletableFuture<CrawlingProcessResultDto> executeFullCrawling(LocalDate targetDate, boolean resume,
+            Consumer<Process> onStart) {
+        List<String> args = new ArrayList<>(List.of("--date", targetDate.toString()));
+        if (resume) {
+            args.add("--resume");
+        }
+        ProcessBuilder processBuilder = createProcessBuilder(FULL_CRAWLING_PATH, args.toArray(String[]::new));
+
+        log.info("전체 크롤링 실행 시작 (기준 날짜: {}, 재시작: {})", targetDate, resume);
+        return crawlingProcessSupervisor.submit("전체 크롤링", processBuilder, fullCrawlingTimeout, onStart);
+    }
+
+    /**
+     * 분할 전체 크롤링의 프로세스 하나를 실행합니다.
+     *
+     * @param targetDate 크롤링 기준 날짜
+     * @param shard      프로세스가 맡을 곡/플랫폼
+     * @param resume     true면 기준 날짜에 이미 저장된 곡/플랫폼은 건너뜀
+     * @param onStart    대기열을 지나 프로세스가 시작되면 호출되는 콜백
+     * @return 프로세스 종료 시 완료되는 결과
      */
-    public void executeFullCrawling() {
+    public CompletableFuture<CrawlingProcessResultDto> executeFullCrawlingShard(LocalDate targetDate,
+            CrawlingShardDto shard, boolean resume, Consumer<Process> onStart) {
+        // 곡 ID를 명령행에 모두 넣으면 길이 제한(Windows 약 32K자)을 넘을 수 있으므로 임시 파일로 전달
+        Path songIdsFile = writeSongIdsFile(shard.songIds());
+        List<String> args = new ArrayList<>(List.of("--date", targetDate.toString(), "--song_ids_file",
+                songIdsFile.toAbsolutePath().toString()));
+        if (shard.platform() != null) {
+            args.add("--platforms");
+            args.add(shard.platform());
+        }
+        if (!shard.runViewcount()) {
+            args.add("--skip_viewcount");
+        }
+        if (resume) {
+            args.add("--resume");
+        }
+        ProcessBuilder processBuilder = createProcessBuilder(FULL_CRAWLING_PATH, args.toArray(String[]::new));
+
+        CompletableFuture<CrawlingProcessResultDto> future;
         try {
-            // Django 프로젝트 경로 설정
-            Path djangoPath = Paths.get(DJANGO_PROJECT_PATH);
-
-            // 운영체제별 명령어 생성
-            List<String> command;
-            if (CrawlingCommandUtil.isWindows()) {
-                command = CrawlingCommandUtil.createWindowsCommand(FULL_CRAWLING_PATH);
-            } else {
-                command = CrawlingCommandUtil.createLinuxCommand(FULL_CRAWLING_PATH);
-            }
-
-            // ProcessBuilder 생성
-            ProcessBuilder processBuilder = new ProcessBuilder(command);
-
-            // 작업 디렉토리 설정
-            if (CrawlingCommandUtil.isWindows()) {
-                processBuilder.directory(Paths.get(".").toFile()); // Windows: 프로젝트 루트에서 실행
-            } else {
-                processBuilder.directory(djangoPath.toFile()); // Linux: streaming_crawling 폴더에서 실행
-            }
-
-            // 환경 변수 설정 (Linux 환경에서만)
-            if (!CrawlingCommandUtil.isWindows()) {
-                Map<String, String> env = processBuilder.environment();
-                env.put("PYTHONPATH", djangoPath.resolve(DJANGO_PROJECT_PATH).toString());
-                env.put("PYTHONUNBUFFERED", "1"); // Python 출력 버퍼링 비활성화
-            }
-
-            log.info("전체 크롤링 실행 시작");
-
-            // 프로세스 실행
-            Process process = processBuilder.start();
-
-            // 출력 스트림 읽기 (별도 스레드에서)
-            new Thread(() -> {
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        log.info("전체 크롤링 출력: {}", line);
-                    }
-                } catch (IOException e) {
-                    log.error("전체 크롤링 출력 읽기 오류", e);
-                }
-            }).start();
-
-            // 에러 스트림 읽기 (별도 스레드에서)
-            new Thread(() -> {
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getErrorStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        // Django 로그는 대부분 정보성 메시지이므로 INFO 레벨로 로깅
-                        if (line.contains("ERROR") || line.contains("Exception") || line.contains("Traceback")) {
-                            log.error("전체 크롤링 에러: {}", line);
-                        } else {
-                            log.info("전체 크롤링 로그: {}", line);
-                        }
-                    }
-                } catch (IOException e) {
-                    log.error("전체 크롤링 에러 읽기 오류", e);
-                }
-            }).start();
-
-            // 비동기 실행 - 프로세스 시작 후 즉시 반환
-            log.info("전체 크롤링 실행 시작됨");
-
-            // 프로세스 완료를 별도 스레드에서 모니터링 (선택사항)
-            new Thread(() -> {
-                try {
-                    int exitCode = process.waitFor();
-                    if (exitCode == 0) {
-                        log.info("전체 크롤링 실행 완료");
-                    }
-                } catch (InterruptedException e) {
-                    log.error("전체 크롤링 프로세스 모니터링 중 인터럽트", e);
-                    Thread.currentThread().interrupt();
-                }
-            }).start();
+            future = crawlingProcessSupervisor.submit("전체 크롤링 " + shard.label(), processBuilder,
+                    fullCrawlingTimeout, onStart);
+        } catch (RuntimeException e) {
+            deleteQuietly(songIdsFile);
+            throw e;
+        }
+        return future.whenComplete((result, error) -> deleteQuietly(songIdsFile));
+    }
 
+    private Path writeSongIdsFile(List<String> songIds) {
+        try {
+            Path songIdsFile = Files.createTempFile("crawling-shard-", ".txt");
+            Files.write(songIdsFile, songIds, StandardCharsets.UTF_8);
+            return songIdsFile;
+        } catch (IOException e) {
+            throw new BaseException(ResponseCode.SERVER_ERROR, "분할 크롤링 곡 목록 파일을 만들 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            log.error("전체 크롤링 프로세스 실행 오류", e);
-            throw new RuntimeException("전체 크롤링 프로세스 실행 중 오류가 발생했습니다.", e);
+            log.warn("분할 크롤링 곡 목록 파일 삭제 실패: {}", path, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 애플리케이션 종료 전 모인 단일 곡 요청을 내보냅니다.
+     */
+    @PreDestroy
+    public void flushPendingSongs() {
+        songCrawlingBatcher.shutdown();
+    }
+
+    /**
+     * 운영체제에 맞는 크롤링 프로세스를 생성합니다.
+     */
+    private ProcessBuilder createProcessBuilder(String scriptPath, String... args) {
+        // Django 프로젝트 경로 설정
+        Path djangoPath = Paths.get(DJANGO_PROJECT_PATH);
+
+        // 운영체제별 명령어 생성
+        List<String> command;
+        if (CrawlingCommandUtil.isWindows()) {
+            command = CrawlingCommandUtil.createWindowsCommand(scriptPath, args);
+        } else {
+            command = CrawlingCommandUtil.createLinuxCommand(scriptPath, args);
+        }
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+
+        // 작업 디렉토리 설정
+        if (CrawlingCommandUtil.isWindows()) {
+            processBuilder.directory(Paths.get(".").toFile()); // Windows: 프로젝트 루트에서 실행
+        } else {
+            processBuilder.directory(djangoPath.toFile()); // Linux: streaming_crawling 폴더에서 실행
+        }
+
+        // 환경 변수 설정 (Linux 환경에서만)
+        if (!CrawlingCommandUtil.isWindows()) {
+            Map<String, String> env = processBuilder.environment();
+            env.put("PYTHONPATH", djangoPath.resolve(DJANGO_PROJECT_PATH).toString());
+            env.put("PYTHONUNBUFFERED", "1"); // Python 출력 버퍼링 비활성화
+        }
+
+        return processBuilder;
+    }
+}
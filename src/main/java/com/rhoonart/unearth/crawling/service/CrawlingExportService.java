@@ -0,0 +1,303 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.common.ResponseCode;
+import com.rhoonart.unearth.common.exception.BaseException;
+import com.rhoonart.unearth.common.util.DataAuthorityService;
+import com.rhoonart.unearth.common.util.ValidateInput;
+import com.rhoonart.unearth.crawling.dto.CrawlingExportJobDto;
+import com.rhoonart.unearth.crawling.dto.CrawlingExportRequestDto;
+import com.rhoonart.unearth.song.entity.SongInfo;
+import com.rhoonart.unearth.song.repository.SongInfoRepository;
+import com.rhoonart.unearth.user.dto.UserDto;
+import com.rhoonart.unearth.user.exception.ForbiddenException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 크롤링 데이터 일괄 내보내기 서비스
+ * 권리자 전체(또는 지정한 음원 목록)의 CSV를 백그라운드에서 곡 묶음 단위 스트림 조회로 한 파일(csv.gz)에 쓰고,
+ * 작업 상태와 다운로드 경로를 제공한다. 작업 기록은 메모리에만 두며 보관 시간이 지나면 파일과 함께 삭제한다.
+ */
+@Slf4j
+@Service
+public class CrawlingExportService {
+
+    // 한 번의 스트림 조회로 읽는 곡 수
+    private static final int SONG_BATCH_SIZE = 100;
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CrawlingCsvService crawlingCsvService;
+    private final SongInfoRepository songInfoRepository;
+    private final DataAuthorityService dataAuthorityService;
+    private final Path exportDir;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public CrawlingExportService(CrawlingCsvService crawlingCsvService,
+            SongInfoRepository songInfoRepository,
+            DataAuthorityService dataAuthorityService,
+            @Value("${crawling.export.dir:exports}") String exportDir,
+            @Value("${crawling.export.retention-hours:24}") long retentionHours,
+            @Value("${crawling.export.queue-capacity:20}") int queueCapacity) {
+        this.crawlingCsvService = crawlingCsvService;
+        this.songInfoRepository = songInfoRepository;
+        this.dataAuthorityService = dataAuthorityService;
+        this.exportDir = Paths.get(exportDir);
+        this.retention = Duration.ofHours(retentionHours);
+        // 내보내기는 DB 스트림 커넥션을 오래 잡으므로 한 번에 하나씩 실행
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("crawling-export-"));
+    }
+
+    /**
+     * 일괄 내보내기 작업을 등록합니다.
+     *
+     * @param user    요청 사용자
+     * @param request 권리자 ID 또는 음원 ID 목록과 기간
+     * @return 등록된 작업 상태
+     */
+    public CrawlingExportJobDto requestExport(UserDto user, CrawlingExportRequestDto request) {
+        LocalDate startDate = ValidateInput.parseDate(request.getStartDate());
+        LocalDate endDate = ValidateInput.parseDate(request.getEndDate());
+        List<String> songIds = resolveSongIds(user, request);
+        if (songIds.isEmpty()) {
+            throw new BaseException(ResponseCode.BAD_REQUEST, "내보낼 음원이 없습니다.");
+        }
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), user.getId(), request.getRightHolderId(),
+                songIds, startDate, endDate);
+        jobs.put(job.jobId, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId);
+            throw new BaseException(ResponseCode.BAD_REQUEST, "대기 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("크롤링 데이터 일괄 내보내기 등록: jobId={}, 곡 수={}", job.jobId, songIds.size());
+        return job.toDto();
+    }
+
+    /**
+     * 작업 상태를 조회합니다. (요청자 또는 관리자만)
+     */
+    public CrawlingExportJobDto getJob(UserDto user, String jobId) {
+        return findAccessibleJob(user, jobId).toDto();
+    }
+
+    /**
+     * 완료된 작업의 파일 경로를 조회합니다. (요청자 또는 관리자만)
+     */
+    public Path getExportFile(UserDto user, String jobId) {
+        ExportJob job = findAccessibleJob(user, jobId);
+        if (job.state != CrawlingExportJobDto.State.SUCCEEDED || !Files.exists(job.file)) {
+            throw new BaseException(ResponseCode.BAD_REQUEST, "아직 내보내기가 완료되지 않았습니다.");
+        }
+        return job.file;
+    }
+
+    /**
+     * 다운로드 파일명 (crawling_data_yyyy-MM-dd.csv.gz)
+     */
+    public String getExportFilename(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        LocalDate requestedDate = job != null ? job.requestedAt.toLocalDate() : LocalDate.now();
+        return "crawling_data_" + requestedDate + ".csv.gz";
+    }
+
+    private ExportJob findAccessibleJob(UserDto user, String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BaseException(ResponseCode.NOT_FOUND, "내보내기 작업을 찾을 수 없습니다.");
+        }
+        if (!user.isAdmin() && !job.requestedBy.equals(user.getId())) {
+            throw new ForbiddenException();
+        }
+        return job;
+    }
+
+    private List<String> resolveSongIds(UserDto user, CrawlingExportRequestDto request) {
+        if (request.getRightHolderId() != null && !request.getRightHolderId().isBlank()) {
+            if (!dataAuthorityService.isAccessRightHolderData(user, request.getRightHolderId())) {
+                throw new ForbiddenException();
+            }
+            return songInfoRepository.findIdsByRightHolderId(request.getRightHolderId());
+        }
+
+        if (request.getSongIds() == null || request.getSongIds().isEmpty()) {
+            throw new BaseException(ResponseCode.INVALID_INPUT, "권리자 또는 음원을 지정해주세요.");
+        }
+        List<SongInfo> songs = songInfoRepository.findAllById(request.getSongIds().stream().distinct().toList());
+        if (songs.stream().anyMatch(song -> !dataAuthorityService.isAccessSongData(user, song))) {
+            throw new ForbiddenException();
+        }
+        return songs.stream().map(SongInfo::getId).sorted().toList();
+    }
+
+    private void run(ExportJob job) {
+        job.start();
+        Path partFile = job.file.resolveSibling(job.file.getFileName() + ".part");
+        try {
+            Files.createDirectories(exportDir);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(partFile), GZIP_BUFFER_SIZE),
+                    StandardCharsets.UTF_8))) {
+                CrawlingCsvWriter csvWriter = new CrawlingCsvWriter(writer);
+                csvWriter.writeHeader();
+                for (int from = 0; from < job.songIds.size(); from += SONG_BATCH_SIZE) {
+                    List<String> batch = job.songIds.subList(from, Math.min(from + SONG_BATCH_SIZE,
+                            job.songIds.size()));
+                    crawlingCsvService.writeSongsCsv(csvWriter, batch, job.startDate, job.endDate);
+                    job.processedSongs += batch.size();
+                }
+            }
+            Files.move(partFile, job.file, StandardCopyOption.REPLACE_EXISTING);
+            job.finish(CrawlingExportJobDto.State.SUCCEEDED, Files.size(job.file), null);
+            log.info("크롤링 데이터 일괄 내보내기 완료: jobId={}, 곡 수={}, 파일 크기={}", job.jobId,
+                    job.songIds.size(), job.fileSize);
+        } catch (IOException | RuntimeException e) {
+            log.error("크롤링 데이터 일괄 내보내기 실패: jobId={}", job.jobId, e);
+            deleteQuietly(partFile);
+            job.finish(CrawlingExportJobDto.State.FAILED, null, "내보내기 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 작업과 파일을 정리합니다.
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000)
+    public void removeExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.finishedAt == null || job.finishedAt.isAfter(expiredBefore)) {
+                return false;
+            }
+            deleteQuietly(job.file);
+            return true;
+        });
+    }
+
+    /**
+     * 재시작 전에 남은 내보내기 파일을 정리합니다. (요청을 받기 전, 빈 초기화 시)
+     * 작업 기록은 메모리에만 있으므로 이전 실행의 파일은 다운로드할 수 없고, 종료 중 쓰던 .part 파일도 남아 있을 수 있습니다.
+     */
+    @PostConstruct
+    public void removeLeftoverFiles() {
+        if (!Files.isDirectory(exportDir)) {
+            return;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(exportDir, "*.{csv.gz,csv.gz.part}")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+                deleted++;
+            }
+        } catch (IOException e) {
+            log.warn("이전 내보내기 파일 정리 실패: {}", exportDir, e);
+        }
+        if (deleted > 0) {
+            log.info("이전 실행의 내보내기 파일 {}개를 정리했습니다.", deleted);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("내보내기 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 내보내기 작업 하나의 상태 (작업 스레드만 갱신)
+     */
+    private class ExportJob {
+        private final String jobId;
+        private final String requestedBy;
+        private final String rightHolderId;
+        private final List<String> songIds;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Path file;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private volatile CrawlingExportJobDto.State state = CrawlingExportJobDto.State.QUEUED;
+        private volatile int processedSongs;
+        private volatile Long fileSize;
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        ExportJob(String jobId, String requestedBy, String rightHolderId, List<String> songIds,
+                LocalDate startDate, LocalDate endDate) {
+            this.jobId = jobId;
+            this.requestedBy = requestedBy;
+            this.rightHolderId = rightHolderId;
+            this.songIds = List.copyOf(songIds);
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.file = exportDir.resolve(jobId + ".csv.gz");
+        }
+
+        void start() {
+            state = CrawlingExportJobDto.State.RUNNING;
+        }
+
+        void finish(CrawlingExportJobDto.State finalState, Long fileSize, String message) {
+            this.fileSize = fileSize;
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+            this.state = finalState;
+        }
+
+        CrawlingExportJobDto toDto() {
+            return CrawlingExportJobDto.builder()
+                    .jobId(jobId)
+                    .state(state)
+                    .rightHolderId(rightHolderId)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .totalSongs(songIds.size())
+                    .processedSongs(processedSongs)
+                    .fileSize(fileSize)
+                    .downloadUrl(state == CrawlingExportJobDto.State.SUCCEEDED
+                            ? "/crawling/export/" + jobId + "/download"
+                            : null)
+                    .message(message)
+                    .requestedAt(requestedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhoonart.unearth.crawling.dto.CrawlingProgressDto;
+import com.rhoonart.unearth.crawling.dto.CrawlingProgressEventDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤러 출력 수집기
+ * 프로세스별 출력 라인을 고정 크기 버퍼에 넣으면 단일 소비 스레드가 묶음으로 꺼내 처리한다.
+ * 진행 이벤트(@@PROGRESS)는 프로세스별 카운터로 집계하고 SSE 구독자에게 전달하며, 일반 라인은 DEBUG로만 남긴다.
+ * 프로세스가 끝나면 저장 이벤트가 있었던 곡의 크롤링 데이터 캐시를 무효화한다.
+ */
+@Slf4j
+@Component
+public class CrawlingLogIngestor {
+
+    static final String PROGRESS_PREFIX = "@@PROGRESS ";
+    private static final int DRAIN_BATCH_SIZE = 500;
+    private static final Duration FINISHED_RETENTION = Duration.ofHours(1);
+
+    private final ObjectMapper objectMapper;
+    private final CrawlingProgressBroadcaster crawlingProgressBroadcaster;
+    private final CrawlingSeriesCache crawlingSeriesCache;
+    private final BlockingQueue<LogLine> buffer;
+    private final Map<Long, RunProgress> progressByPid = new ConcurrentHashMap<>();
+    private final AtomicLong droppedLines = new AtomicLong();
+    private final Thread consumer;
+    private volatile boolean running = true;
+
+    public CrawlingLogIngestor(ObjectMapper objectMapper, CrawlingProgressBroadcaster crawlingProgressBroadcaster,
+            CrawlingSeriesCache crawlingSeriesCache,
+            @Value("${crawling.log.buffer-size:10000}") int bufferSize) {
+        this.objectMapper = objectMapper;
+        this.crawlingProgressBroadcaster = crawlingProgressBroadcaster;
+        this.crawlingSeriesCache = crawlingSeriesCache;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.consumer = new Thread(this::consumeLoop, "crawling-log-ingestor");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * 크롤러 출력 한 줄을 버퍼에 넣습니다.
+     * 버퍼가 가득 차면 일반 로그는 버리고, 진행 이벤트는 자리가 날 때까지 기다립니다.
+     */
+    public void publish(long pid, String label, String line) {
+        LogLine logLine = new LogLine(pid, label, line, false);
+        if (line.startsWith(PROGRESS_PREFIX) || isErrorLine(line)) {
+            putQuietly(logLine);
+        } else if (!buffer.offer(logLine)) {
+            droppedLines.incrementAndGet();
+        }
+    }
+
+    /**
+     * 프로세스 출력이 끝났음을 알립니다. 앞선 라인이 모두 처리된 뒤 진행 상황이 종료 처리됩니다.
+     */
+    public void publishEnd(long pid, String label) {
+        putQuietly(new LogLine(pid, label, null, true));
+    }
+
+    /**
+     * 프로세스의 현재 진행 상황을 조회합니다.
+     */
+    public Optional<CrawlingProgressDto> getProgress(Long pid) {
+        if (pid == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(progressByPid.get(pid)).map(progress -> progress.snapshot(droppedLines.get()));
+    }
+
+    private void putQuietly(LogLine logLine) {
+        try {
+            buffer.put(logLine);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consumeLoop() {
+        List<LogLine> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (running) {
+            try {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                batch.forEach(this::handle);
+                batch.clear();
+                removeExpiredProgress();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("크롤러 출력 처리 중 오류", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void handle(LogLine logLine) {
+        RunProgress progress = progressByPid.computeIfAbsent(logLine.pid(), pid -> new RunProgress(logLine.label()));
+
+        if (logLine.end()) {
+            progress.finish();
+            // 조회수/영상 조회수 저장이 모두 끝난 뒤이므로 이 시점에 무효화
+            crawlingSeriesCache.invalidateAll(progress.takeTouchedSongIds());
+            log.info("[{}] 진행 요약 - 저장: {}, 실패: {}, 마지막 상태: {}", logLine.label(), progress.savedCount,
+                    progress.failedCount, progress.finalStatus);
+            return;
+        }
+
+        String line = logLine.line();
+        if (line.startsWith(PROGRESS_PREFIX)) {
+            try {
+                CrawlingProgressEventDto event = objectMapper.readValue(line.substring(PROGRESS_PREFIX.length()),
+                        CrawlingProgressEventDto.class);
+                progress.apply(event);
+                crawlingProgressBroadcaster.broadcast(event);
+            } catch (JsonProcessingException e) {
+                log.debug("[{}] 진행 이벤트 파싱 실패: {}", logLine.label(), line);
+            }
+        } else if (isErrorLine(line)) {
+            log.error("[{}] {}", logLine.label(), line);
+        } else {
+            log.debug("[{}] {}", logLine.label(), line);
+        }
+    }
+
+    private void removeExpiredProgress() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(FINISHED_RETENTION);
+        progressByPid.values().removeIf(progress -> progress.finished && progress.updatedAt.isBefore(expiredBefore));
+    }
+
+    private boolean isErrorLine(String line) {
+        return line.contains("ERROR") || line.contains("Exception") || line.contains("Traceback");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        consumer.interrupt();
+    }
+
+    private record LogLine(long pid, String label, String line, boolean end) {
+    }
+
+    /**
+     * 프로세스 하나의 진행 카운터 (소비 스레드만 갱신)
+     */
+    private static class RunProgress {
+        private final String label;
+        private final Map<String, Integer> savedCountByPlatform = new LinkedHashMap<>();
+        // 저장 이벤트가 있었던 곡 (실패 값 -999도 저장되므로 결과와 관계없이 기록)
+        private Set<String> touchedSongIds = new HashSet<>();
+        private Integer totalSongs;
+        private int platformCount;
+        private String currentPlatform;
+        private int savedCount;
+        private int failedCount;
+        private String lastSongId;
+        private boolean finished;
+        private String finalStatus;
+        private LocalDateTime updatedAt = LocalDateTime.now();
+
+        RunProgress(String label) {
+            this.label = label;
+        }
+
+        synchronized void apply(CrawlingProgressEventDto event) {
+            updatedAt = LocalDateTime.now();
+            if (event.event() == null) {
+                return;
+            }
+            switch (event.event()) {
+                case CrawlingProgressEventDto.RUN_START -> {
+                    totalSongs = event.totalSongs();
+                    platformCount = event.platforms() == null ? 0 : event.platforms().size();
+                }
+                case CrawlingProgressEventDto.PLATFORM_START -> currentPlatform = event.platform();
+                case CrawlingProgressEventDto.SONG_SAVED -> {
+                    lastSongId = event.songId();
+                    if (event.songId() != null) {
+                        touchedSongIds.add(event.songId());
+                    }
+                    if ("success".equals(event.status())) {
+                        savedCount++;
+                        savedCountByPlatform.merge(event.platform(), 1, Integer::sum);
+                    } else {
+                        failedCount++;
+                    }
+                }
+                case CrawlingProgressEventDto.RUN_END -> finalStatus = event.status();
+                default -> {
+                }
+            }
+        }
+
+        synchronized void finish() {
+            finished = true;
+            updatedAt = LocalDateTime.now();
+        }
+
+        synchronized Set<String> takeTouchedSongIds() {
+            Set<String> songIds = touchedSongIds;
+            touchedSongIds = new HashSet<>();
+            return songIds;
+        }
+
+        synchronized CrawlingProgressDto snapshot(long droppedLines) {
+            return CrawlingProgressDto.builder()
+                    .label(label)
+                    .totalSongs(totalSongs)
+                    .platformCount(platformCount)
+                    .currentPlatform(currentPlatform)
+                    .savedCount(savedCount)
+                    .failedCount(failedCount)
+                    .savedCountByPlatform(Map.copyOf(savedCountByPlatform))
+                    .lastSongId(lastSongId)
+                    .finished(finished)
+                    .finalStatus(finalStatus)
+                    .droppedLines(droppedLines)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
@@ -2,10 +2,13 @@ package com.rhoonart.unearth.crawling.service;
 
 import com.rhoonart.unearth.common.ResponseCode;
 import com.rhoonart.unearth.common.exception.BaseException;
+import com.rhoonart.unearth.common.util.TransactionUtil;
+import com.rhoonart.unearth.crawling.dto.CrawlDateRangeDto;
 import com.rhoonart.unearth.crawling.dto.VideoInfoDto;
 import com.rhoonart.unearth.crawling.dto.CrawlingExecuteRequestDto;
 import com.rhoonart.unearth.crawling.entity.CrawlingPeriod;
 import com.rhoonart.unearth.crawling.entity.YoutubeVideoViewCount;
+import com.rhoonart.unearth.crawling.repository.CrawlingDataRepository;
 import com.rhoonart.unearth.crawling.repository.CrawlingPeriodRepository;
 import com.rhoonart.unearth.crawling.repository.YoutubeVideoViewCountRepository;
 import com.rhoonart.unearth.song.entity.SongInfo;
@@ -13,13 +16,18 @@ import com.rhoonart.unearth.song.exception.CannotFindSongException;
 import com.rhoonart.unearth.song.service.SongInfoService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -30,7 +38,9 @@ public class CrawlingPeriodService {
 
     private final CrawlingPeriodRepository crawlingPeriodRepository;
     private final YoutubeVideoViewCountRepository youtubeVideoViewCountRepository;
+    private final CrawlingDataRepository crawlingDataRepository;
     private final SongInfoService songInfoService;
+    private final CrawlingSeriesCache crawlingSeriesCache;
 
     /**
      * 영상 등록시 크롤링 기간을 생성하고 저장합니다.
@@ -38,6 +48,7 @@ public class CrawlingPeriodService {
      * @param dto
      * @return
      */
+    @Transactional
     public CrawlingPeriod createAndSaveCrawlingPeriod(CrawlingExecuteRequestDto dto) {
         // 1. 음원 조회
         SongInfo song = songInfoService.getSongInfoById(dto.getSongId()).orElseThrow(CannotFindSongException::new);
@@ -59,7 +70,16 @@ public class CrawlingPeriodService {
                 .isActive(true)
                 .build();
 
-        return crawlingPeriodRepository.save(crawlingPeriod);
+        CrawlingPeriod saved = crawlingPeriodRepository.save(crawlingPeriod);
+
+        // 4. 음원의 현재 크롤링 기간 갱신 (음원 목록에서 기간 조회 없이 표시)
+        song.updateCrawlWindow(startDate, endDate);
+
+        // 5. 영상 정보가 바뀌었으므로 곡의 크롤링 데이터 캐시 무효화
+        // (커밋 전에 지우면 동시 조회가 이전 기간을 다시 캐시할 수 있으므로 커밋 후)
+        String songId = song.getId();
+        TransactionUtil.runAfterCommit(() -> crawlingSeriesCache.invalidate(songId));
+        return saved;
     }
 
     /**
@@ -105,9 +125,17 @@ public class CrawlingPeriodService {
 
     /**
      * 특정 날짜 범위의 모든 영상 정보를 일괄 조회합니다. (N+1 문제 해결)
+     * 시작일이나 종료일이 null이면 곡의 실제 크롤링 데이터 날짜 범위로 채웁니다. (전체 기간 조회)
      */
     public Map<LocalDate, List<VideoInfoDto>> getVideoInfosForDateRange(String songId, LocalDate startDate,
             LocalDate endDate) {
+        CrawlDateRangeDto range = resolveDateRange(List.of(songId), startDate, endDate);
+        if (range.isEmpty()) {
+            return new HashMap<>();
+        }
+        startDate = range.getMinDate();
+        endDate = range.getMaxDate();
+
         // 1. 날짜 범위에 해당하는 모든 크롤링 기간을 일괄 조회 (쿼리 1)
         List<CrawlingPeriod> periods = crawlingPeriodRepository.findBySongIdAndDateRangeBatch(songId, startDate,
                 endDate);
@@ -116,59 +144,180 @@ public class CrawlingPeriodService {
             return new HashMap<>();
         }
 
-        // 2. 크롤링 기간 ID 목록 추출
+        // 2. 해당 기간의 모든 YouTube 조회수 데이터를 일괄 조회 (쿼리 2)
         List<String> periodIds = periods.stream()
                 .map(CrawlingPeriod::getId)
                 .collect(Collectors.toList());
-
-        // 3. 해당 기간의 모든 YouTube 조회수 데이터를 일괄 조회 (쿼리 2)
         List<YoutubeVideoViewCount> viewCounts = youtubeVideoViewCountRepository
                 .findByCrawlingPeriodIdsAndDateRange(periodIds, startDate, endDate);
 
-        // 4. 조회수 데이터를 Map으로 변환 (periodId + date -> viewCount)
-        Map<String, Integer> viewCountMap = viewCounts.stream()
-                .collect(Collectors.toMap(
-                        vc -> vc.getCrawlingPeriod().getId() + "_" + vc.getDate().toString(),
-                        YoutubeVideoViewCount::getViewCount,
-                        (existing, replacement) -> existing // 중복 시 기존 값 유지
-                ));
+        // 3. 날짜별로 영상 정보 그룹화
+        return buildVideoInfosByDate(periods, viewCounts, startDate, endDate);
+    }
 
-        // 5. 날짜별로 영상 정보 그룹화
-        Map<LocalDate, List<VideoInfoDto>> result = new HashMap<>();
+    /**
+     * 여러 음원의 영상 정보를 날짜별로 일괄 조회합니다. (CSV 내보내기용)
+     * 크롤링 기간에 포함된 날짜만 담기므로 조회 기간이 길어도 크기가 기간 수에 비례합니다.
+     *
+     * @param songIds   음원 ID 목록
+     * @param startDate 시작일 (null이면 음원들의 첫 크롤링 날짜)
+     * @param endDate   종료일 (null이면 음원들의 마지막 크롤링 날짜)
+     * @return 음원 ID -> (날짜 -> 영상 정보 목록)
+     */
+    public Map<String, Map<LocalDate, List<VideoInfoDto>>> getVideoInfosForSongs(Collection<String> songIds,
+            LocalDate startDate, LocalDate endDate) {
+        if (songIds.isEmpty()) {
+            return Map.of();
+        }
+        CrawlDateRangeDto range = resolveDateRange(songIds, startDate, endDate);
+        if (range.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate from = range.getMinDate();
+        LocalDate to = range.getMaxDate();
+
+        // 1. 음원들의 크롤링 기간 일괄 조회 (쿼리 1, 수록 순서대로)
+        List<CrawlingPeriod> periods = crawlingPeriodRepository.findBySongIdsAndDateRange(songIds, from, to);
+        if (periods.isEmpty()) {
+            return Map.of();
+        }
 
-        // 각 날짜에 대해 해당하는 영상 정보 생성
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            List<VideoInfoDto> videoInfosForDate = new ArrayList<>();
+        // 2. 기간별 조회수를 조회 범위 안에서만 일괄 조회 (쿼리 2)
+        List<String> periodIds = periods.stream().map(CrawlingPeriod::getId).toList();
+        List<YoutubeVideoViewCount> viewCounts = youtubeVideoViewCountRepository
+                .findByCrawlingPeriodIdsAndDateRange(periodIds, from, to);
 
-            for (CrawlingPeriod period : periods) {
-                // 해당 날짜가 크롤링 기간에 포함되는지 확인
-                if (!currentDate.isBefore(period.getStartDate()) && !currentDate.isAfter(period.getEndDate())) {
-                    // 조회수 데이터 조회
-                    String viewCountKey = period.getId() + "_" + currentDate.toString();
-                    Integer viewCount = viewCountMap.get(viewCountKey);
+        // 3. 기간과 조회수를 음원별로 한 번만 나눈 뒤 음원마다 자기 몫만 넘겨 날짜별 영상 정보 생성
+        Map<String, List<CrawlingPeriod>> periodsBySong = periods.stream()
+                .collect(Collectors.groupingBy(period -> period.getSong().getId()));
+        Map<String, String> songIdByPeriodId = new HashMap<>();
+        periods.forEach(period -> songIdByPeriodId.put(period.getId(), period.getSong().getId()));
+        Map<String, List<YoutubeVideoViewCount>> viewCountsBySong = new HashMap<>();
+        for (YoutubeVideoViewCount viewCount : viewCounts) {
+            String songId = songIdByPeriodId.get(viewCount.getCrawlingPeriod().getId());
+            if (songId != null) {
+                viewCountsBySong.computeIfAbsent(songId, id -> new ArrayList<>()).add(viewCount);
+            }
+        }
 
-                    VideoInfoDto videoInfo = VideoInfoDto.builder()
-                            .channel(period.getChannel())
-                            .youtubeTitle(period.getYoutubeTitle())
-                            .youtubeUrl(period.getYoutubeUrl())
-                            .songOrder(period.getSongOrder())
-                            .uploadAt(period.getUploadAt())
-                            .viewCount(viewCount) // null이면 크롤링되지 않음을 의미
-                            .build();
+        Map<String, Map<LocalDate, List<VideoInfoDto>>> result = new HashMap<>();
+        periodsBySong.forEach((songId, songPeriods) -> result.put(songId, buildVideoInfosByDate(songPeriods,
+                viewCountsBySong.getOrDefault(songId, List.of()), from, to)));
+        return result;
+    }
 
-                    videoInfosForDate.add(videoInfo);
+    /**
+     * 크롤링 기간 목록으로 날짜별 영상 정보를 만듭니다.
+     * 기간을 시작일 순으로 훑는 스윕 방식이라 비용은 O(기간 수 log 기간 수 + 기간에 포함된 날짜 수 + 결과 수)이고,
+     * 어느 기간에도 포함되지 않는 날짜는 건너뜁니다. 날짜별 목록은 입력 기간 순서를 유지합니다.
+     *
+     * @param periods    크롤링 기간 목록 (출력 순서)
+     * @param viewCounts 조회수 목록 (다른 기간의 조회수가 섞여 있어도 무시)
+     * @param startDate  시작일 (null이면 기간 시작일)
+     * @param endDate    종료일 (null이면 기간 종료일)
+     * @return 날짜 -> 영상 정보 목록 (영상 정보가 있는 날짜만)
+     */
+    Map<LocalDate, List<VideoInfoDto>> buildVideoInfosByDate(List<CrawlingPeriod> periods,
+            List<YoutubeVideoViewCount> viewCounts, LocalDate startDate, LocalDate endDate) {
+        int periodCount = periods.size();
+        Map<String, Integer> indexById = new HashMap<>();
+        LocalDate[] from = new LocalDate[periodCount];
+        LocalDate[] to = new LocalDate[periodCount];
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < periodCount; i++) {
+            CrawlingPeriod period = periods.get(i);
+            indexById.put(period.getId(), i);
+            if (period.getStartDate() == null || period.getEndDate() == null) {
+                continue;
+            }
+            from[i] = startDate != null && startDate.isAfter(period.getStartDate()) ? startDate
+                    : period.getStartDate();
+            to[i] = endDate != null && endDate.isBefore(period.getEndDate()) ? endDate : period.getEndDate();
+            if (!from[i].isAfter(to[i])) {
+                order.add(i);
+            }
+        }
+        order.sort(Comparator.comparing((Integer i) -> from[i]));
+
+        // 기간 순번별 조회수 (날짜 -> 조회수, 중복 시 기존 값 유지)
+        List<Map<LocalDate, Integer>> viewCountsByPeriod = new ArrayList<>(periodCount);
+        for (int i = 0; i < periodCount; i++) {
+            viewCountsByPeriod.add(new HashMap<>());
+        }
+        for (YoutubeVideoViewCount viewCount : viewCounts) {
+            Integer index = indexById.get(viewCount.getCrawlingPeriod().getId());
+            if (index != null) {
+                viewCountsByPeriod.get(index).putIfAbsent(viewCount.getDate(), viewCount.getViewCount());
+            }
+        }
+
+        // 조회수가 없는 날의 영상 정보는 기간별로 하나만 만들어 공유
+        VideoInfoDto[] withoutViewCount = new VideoInfoDto[periodCount];
+
+        Map<LocalDate, List<VideoInfoDto>> result = new HashMap<>();
+        TreeSet<Integer> active = new TreeSet<>();
+        PriorityQueue<Integer> ending = new PriorityQueue<>(Comparator.comparing((Integer i) -> to[i]));
+        int next = 0;
+        LocalDate date = null;
+        while (next < order.size() || !active.isEmpty()) {
+            // 진행 중인 기간이 없으면 다음 기간 시작일로 이동
+            if (active.isEmpty()) {
+                date = from[order.get(next)];
+            }
+            while (next < order.size() && !from[order.get(next)].isAfter(date)) {
+                int index = order.get(next++);
+                active.add(index);
+                ending.add(index);
+            }
+
+            List<VideoInfoDto> videoInfosForDate = new ArrayList<>(active.size());
+            for (int index : active) {
+                Integer viewCount = viewCountsByPeriod.get(index).get(date);
+                if (viewCount == null) {
+                    if (withoutViewCount[index] == null) {
+                        withoutViewCount[index] = toVideoInfo(periods.get(index), null);
+                    }
+                    videoInfosForDate.add(withoutViewCount[index]);
+                } else {
+                    videoInfosForDate.add(toVideoInfo(periods.get(index), viewCount));
                 }
             }
+            result.put(date, videoInfosForDate);
 
-            if (!videoInfosForDate.isEmpty()) {
-                result.put(currentDate, videoInfosForDate);
+            // 오늘로 끝나는 기간 제거
+            while (!ending.isEmpty() && !to[ending.peek()].isAfter(date)) {
+                active.remove(ending.poll());
             }
+            date = date.plusDays(1);
+        }
+        return result;
+    }
 
-            currentDate = currentDate.plusDays(1);
+    /**
+     * 조회 범위의 빈 쪽을 음원들의 실제 크롤링 데이터 날짜로 채웁니다.
+     * 양쪽이 모두 주어지면 조회하지 않으며, 크롤링 데이터가 없는 음원이면 빈 범위를 반환합니다.
+     */
+    private CrawlDateRangeDto resolveDateRange(Collection<String> songIds, LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            return new CrawlDateRangeDto(startDate, endDate);
+        }
+        CrawlDateRangeDto dataRange = crawlingDataRepository.findCrawlDateRange(songIds);
+        if (dataRange.isEmpty()) {
+            return dataRange;
         }
+        return new CrawlDateRangeDto(startDate != null ? startDate : dataRange.getMinDate(),
+                endDate != null ? endDate : dataRange.getMaxDate());
+    }
 
-        return result;
+    private VideoInfoDto toVideoInfo(CrawlingPeriod period, Integer viewCount) {
+        return VideoInfoDto.builder()
+                .channel(period.getChannel())
+                .youtubeTitle(period.getYoutubeTitle())
+                .youtubeUrl(period.getYoutubeUrl())
+                .songOrder(period.getSongOrder())
+                .uploadAt(period.getUploadAt())
+                .viewCount(viewCount) // null이면 크롤링되지 않음, -999면 크롤링 실패
+                .build();
     }
 
     // 크롤링 시작일을 현재 날짜로 설정
@@ -0,0 +1,191 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingProcessResultDto;
+import com.rhoonart.unearth.crawling.exception.CrawlingQueueFullException;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 크롤링 프로세스 감독자
+ * 동시에 실행되는 크롤러 프로세스 수를 제한하고, 초과 요청은 대기열에 쌓아 순서대로 실행한다.
+ * 프로세스별 타임아웃이 지나면 강제 종료하고 종료 코드를 결과로 돌려준다.
+ * 프로세스 출력은 {@link CrawlingLogIngestor}로 넘겨 비동기로 처리한다.
+ */
+@Slf4j
+@Component
+public class CrawlingProcessSupervisor {
+
+    private final CrawlingLogIngestor crawlingLogIngestor;
+    private final ThreadPoolExecutor workerPool;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final Set<Process> runningProcesses = ConcurrentHashMap.newKeySet();
+
+    public CrawlingProcessSupervisor(CrawlingLogIngestor crawlingLogIngestor,
+            @Value("${crawling.process.max-concurrent:2}") int maxConcurrent,
+            @Value("${crawling.process.queue-capacity:100}") int queueCapacity) {
+        this.crawlingLogIngestor = crawlingLogIngestor;
+        // 워커 스레드 하나가 프로세스 하나를 맡아 출력까지 읽으므로 스레드 수 = 최대 동시 프로세스 수
+        this.workerPool = new ThreadPoolExecutor(
+                maxConcurrent, maxConcurrent,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("crawling-worker-"));
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("crawling-timeout-"));
+
+        log.info("✅ 크롤링 프로세스 풀 설정 - 최대 동시 실행: {}, 대기열: {}", maxConcurrent, queueCapacity);
+    }
+
+    /**
+     * 크롤링 프로세스 실행을 예약합니다.
+     * 실행 슬롯이 비어 있으면 바로 시작하고, 아니면 대기열에서 차례를 기다립니다.
+     *
+     * @param label          로그에 표시할 작업 이름
+     * @param processBuilder 실행할 프로세스
+     * @param timeout        프로세스 최대 실행 시간
+     * @return 프로세스 종료 시 완료되는 결과
+     */
+    public CompletableFuture<CrawlingProcessResultDto> submit(String label, ProcessBuilder processBuilder,
+            Duration timeout) {
+        return submit(label, processBuilder, timeout, process -> {
+        });
+    }
+
+    /**
+     * 크롤링 프로세스 실행을 예약하고, 대기열을 지나 실제로 시작되면 onStart를 호출합니다.
+     *
+     * @param onStart 프로세스 시작 직후 워커 스레드에서 호출되는 콜백
+     */
+    public CompletableFuture<CrawlingProcessResultDto> submit(String label, ProcessBuilder processBuilder,
+            Duration timeout, Consumer<Process> onStart) {
+        CompletableFuture<CrawlingProcessResultDto> result = new CompletableFuture<>();
+        try {
+            workerPool.execute(() -> runProcess(label, processBuilder, timeout, onStart, result));
+        } catch (RejectedExecutionException e) {
+            log.warn("❌ 크롤링 대기열 초과로 요청 거부: {}", label);
+            throw new CrawlingQueueFullException();
+        }
+
+        log.info("크롤링 작업 등록: {} (실행 중: {}, 대기 중: {})", label, getActiveCount(), getQueuedCount());
+        return result;
+    }
+
+    /**
+     * 현재 실행 중인 크롤링 프로세스 수
+     */
+    public int getActiveCount() {
+        return workerPool.getActiveCount();
+    }
+
+    /**
+     * 실행을 기다리는 크롤링 요청 수
+     */
+    public int getQueuedCount() {
+        return workerPool.getQueue().size();
+    }
+
+    private void runProcess(String label, ProcessBuilder processBuilder, Duration timeout,
+            Consumer<Process> onStart, CompletableFuture<CrawlingProcessResultDto> result) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Process process;
+        try {
+            // stderr를 stdout에 합쳐 스트림 하나만 읽는다
+            processBuilder.redirectErrorStream(true);
+            process = processBuilder.start();
+        } catch (IOException e) {
+            log.error("크롤링 프로세스 실행 오류: {}", label, e);
+            result.completeExceptionally(e);
+            return;
+        }
+
+        runningProcesses.add(process);
+        log.info("크롤링 실행 시작됨: {} (pid={})", label, process.pid());
+        try {
+            onStart.accept(process);
+        } catch (RuntimeException e) {
+            log.warn("크롤링 시작 콜백 처리 실패: {}", label, e);
+        }
+
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        ScheduledFuture<?> timeoutTask = timeoutScheduler.schedule(() -> {
+            if (process.isAlive()) {
+                timedOut.set(true);
+                log.warn("⏰ 크롤링 타임아웃({}분) 초과로 강제 종료: {}", timeout.toMinutes(), label);
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            pumpOutput(label, process);
+            int exitCode = process.waitFor();
+            crawlingLogIngestor.publishEnd(process.pid(), label);
+
+            if (timedOut.get()) {
+                log.error("❌ 크롤링 타임아웃 종료: {} (exitCode={})", label, exitCode);
+            } else if (exitCode == 0) {
+                log.info("✅ 크롤링 실행 완료: {}", label);
+            } else {
+                log.error("❌ 크롤링 비정상 종료: {} (exitCode={})", label, exitCode);
+            }
+            result.complete(new CrawlingProcessResultDto(label, exitCode, timedOut.get(), startedAt,
+                    LocalDateTime.now()));
+        } catch (InterruptedException e) {
+            log.error("크롤링 프로세스 모니터링 중 인터럽트: {}", label, e);
+            process.destroyForcibly();
+            result.completeExceptionally(e);
+            Thread.currentThread().interrupt();
+        } finally {
+            timeoutTask.cancel(false);
+            runningProcesses.remove(process);
+        }
+    }
+
+    private void pumpOutput(String label, Process process) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // 로깅/파싱은 수집기 스레드에서 처리하고 여기서는 파이프만 비운다
+                crawlingLogIngestor.publish(process.pid(), label, line);
+            }
+        } catch (IOException e) {
+            log.error("크롤링 출력 읽기 오류: {}", label, e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행 중인 크롤러를 정리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+        timeoutScheduler.shutdownNow();
+        runningProcesses.forEach(process -> {
+            log.warn("애플리케이션 종료로 크롤링 프로세스 강제 종료 (pid={})", process.pid());
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+        });
+    }
+}
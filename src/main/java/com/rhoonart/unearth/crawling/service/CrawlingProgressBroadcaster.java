@@ -0,0 +1,255 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingProgressEventDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 크롤링 진행 이벤트 SSE 전송기
+ * 구독자(브라우저 탭)마다 크기가 정해진 전송 대기열을 두고, 전송 스레드 풀에서 구독자별로 차례대로 보낸다.
+ * 느린 구독자는 자기 대기열만 밀리며, 대기열이 가득 찰 만큼 뒤처지면 연결을 끊어 브라우저가 다시 연결하게 한다.
+ * 실제 쓰기는 별도 스레드에서 하고 전송 스레드는 제한 시간까지만 기다리므로, 응답이 멈춘 구독자가 전송 스레드를 붙잡지 못한다.
+ * 연결은 비동기로 유지되므로 구독자 수만큼 서블릿 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class CrawlingProgressBroadcaster {
+
+    private static final long HEARTBEAT_SECONDS = 25;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final ThreadPoolExecutor sender;
+    // 소켓 쓰기 전용 (멈춘 구독자마다 최대 한 스레드만 쓰기에 묶이고 연결을 끊은 뒤에는 더 보내지 않음)
+    private final ThreadPoolExecutor writer;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutMillis;
+    private final int bufferSize;
+
+    public CrawlingProgressBroadcaster(
+            @Value("${crawling.progress.sse-timeout-minutes:30}") long emitterTimeoutMinutes,
+            @Value("${crawling.progress.subscriber-buffer-size:100}") int bufferSize,
+            @Value("${crawling.progress.sender-threads:4}") int senderThreads,
+            @Value("${crawling.progress.send-timeout-seconds:10}") long sendTimeoutSeconds) {
+        this.emitterTimeoutMillis = TimeUnit.MINUTES.toMillis(emitterTimeoutMinutes);
+        this.sendTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(1, sendTimeoutSeconds));
+        this.bufferSize = Math.max(1, bufferSize);
+        this.sender = new ThreadPoolExecutor(Math.max(1, senderThreads), Math.max(1, senderThreads),
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new CustomizableThreadFactory("crawling-sse-"));
+        this.sender.allowCoreThreadTimeOut(true);
+        this.writer = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new CustomizableThreadFactory("crawling-sse-write-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("crawling-sse-heartbeat-"));
+        // 프록시/브라우저가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+        this.heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * 진행 이벤트 구독을 등록합니다.
+     *
+     * @param songId 특정 곡의 이벤트만 받으려면 곡 ID, 모든 이벤트를 받으려면 null
+     * @return 응답으로 반환할 SseEmitter
+     */
+    public SseEmitter subscribe(String songId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(songId, emitter, bufferSize);
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        log.debug("크롤링 진행 구독 등록: songId={}, 구독자 수={}", songId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 진행 이벤트를 구독자에게 전달합니다.
+     * 구독자별 대기열에 넣기만 하므로 호출한 스레드는 전송을 기다리지 않습니다.
+     */
+    public void broadcast(CrawlingProgressEventDto event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event)) {
+                enqueue(subscriber, SseEmitter.event().name(event.event()).data(event));
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        // 전송할 이벤트가 밀려 있는 구독자에게는 하트비트를 더 쌓지 않음
+        subscribers.stream()
+                .filter(subscriber -> subscriber.pending.isEmpty())
+                .forEach(subscriber -> enqueue(subscriber, SseEmitter.event().comment("heartbeat")));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.pending.offer(event)) {
+            // 너무 뒤처진 구독자는 연결을 끊음 (브라우저 EventSource가 다시 연결)
+            log.debug("크롤링 진행 구독자 전송 지연으로 연결 종료: songId={}", subscriber.songId);
+            close(subscriber);
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 전송하지 않음
+            subscriber.draining.set(false);
+        }
+    }
+
+    /**
+     * 한 구독자의 대기열을 비웁니다. (구독자마다 동시에 하나의 스레드만 실행)
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed.get() && (event = subscriber.pending.poll()) != null) {
+                try {
+                    send(subscriber, event);
+                } catch (TimeoutException e) {
+                    // 제한 시간 안에 쓰지 못한 구독자는 연결을 끊음 (쓰기 중인 스레드가 끝난 뒤 종료 처리)
+                    log.debug("크롤링 진행 구독자 전송 시간 초과로 연결 종료: songId={}", subscriber.songId);
+                    close(subscriber);
+                    subscriber.completeWithError(e, writer);
+                } catch (IOException | IllegalStateException e) {
+                    // 브라우저가 연결을 끊은 경우
+                    close(subscriber);
+                    subscriber.completeWithError(e, writer);
+                }
+            }
+            if (subscriber.closed.get()) {
+                subscriber.pending.clear();
+                subscriber.complete();
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 실행을 마치는 사이에 들어온 이벤트가 있으면 다시 실행
+        if (!subscriber.pending.isEmpty() || (subscriber.closed.get() && !subscriber.completed.get())) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 쓰기 스레드에서 이벤트를 보내고 제한 시간까지 기다립니다.
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException, TimeoutException {
+        Future<?> future;
+        try {
+            future = writer.submit(() -> {
+                subscriber.emitter.send(event);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("종료 중에는 전송하지 않습니다.", e);
+        }
+        try {
+            future.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscribers.remove(subscriber);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        sender.shutdownNow();
+        writer.shutdownNow();
+        subscribers.forEach(subscriber -> {
+            subscriber.closed.set(true);
+            subscriber.complete();
+        });
+        subscribers.clear();
+    }
+
+    private static final class Subscriber {
+
+        private final String songId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        // 전송 스레드가 이 구독자의 대기열을 비우는 중인지 여부
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Subscriber(String songId, SseEmitter emitter, int bufferSize) {
+            this.songId = songId;
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * 곡을 지정한 구독자는 해당 곡의 저장 이벤트만 받는다.
+         */
+        private boolean accepts(CrawlingProgressEventDto event) {
+            return songId == null || songId.equals(event.songId());
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        /**
+         * 쓰기 중인 스레드가 emitter를 잡고 있을 수 있으므로 종료 처리는 쓰기 스레드에 맡긴다.
+         */
+        private void completeWithError(Throwable error, Executor writer) {
+            if (completed.compareAndSet(false, true)) {
+                try {
+                    writer.execute(() -> emitter.completeWithError(error));
+                } catch (RejectedExecutionException e) {
+                    // 종료 중에는 컨테이너가 연결을 정리함
+                }
+            }
+        }
+    }
+}
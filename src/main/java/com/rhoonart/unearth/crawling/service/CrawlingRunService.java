@@ -0,0 +1,200 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.common.ResponseCode;
+import com.rhoonart.unearth.common.exception.BaseException;
+import com.rhoonart.unearth.crawling.dto.CrawlingProcessResultDto;
+import com.rhoonart.unearth.crawling.dto.CrawlingProgressDto;
+import com.rhoonart.unearth.crawling.dto.CrawlingRunDto;
+import com.rhoonart.unearth.crawling.entity.CrawlingRun;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunState;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunType;
+import com.rhoonart.unearth.crawling.repository.CrawlingDataRepository;
+import com.rhoonart.unearth.crawling.repository.CrawlingPeriodRepository;
+import com.rhoonart.unearth.crawling.repository.CrawlingRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 크롤링 실행 이력 서비스
+ * 실행 등록 → 프로세스 시작 → 종료까지의 상태를 crawling_run 테이블에 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlingRunService {
+
+    private final CrawlingRunRepository crawlingRunRepository;
+    private final CrawlingDataRepository crawlingDataRepository;
+    private final CrawlingPeriodRepository crawlingPeriodRepository;
+    private final CrawlingLogIngestor crawlingLogIngestor;
+
+    /**
+     * 새 실행을 등록합니다.
+     * 같은 종류의 실행이 아직 끝나지 않았으면 예외가 발생합니다.
+     *
+     * @param label 실행 구분용 표시 (없으면 null)
+     */
+    @Transactional
+    public CrawlingRun registerRun(CrawlingRunType runType, LocalDate targetDate, String label) {
+        if (crawlingRunRepository.existsByRunTypeAndStateIn(runType, CrawlingRunState.ACTIVE_STATES)) {
+            throw new BaseException(ResponseCode.BAD_REQUEST, "크롤링이 이미 실행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        CrawlingRun run = CrawlingRun.builder()
+                .runType(runType)
+                .label(label)
+                .state(CrawlingRunState.QUEUED)
+                .targetDate(targetDate)
+                .songsTotal((int) crawlingPeriodRepository.countActiveSongsOnDate(targetDate))
+                .build();
+        return crawlingRunRepository.save(run);
+    }
+
+    /**
+     * 분할 실행의 개별 프로세스 실행을 등록합니다.
+     */
+    @Transactional
+    public CrawlingRun registerShardRun(CrawlingRun parentRun, String label, int songsTotal) {
+        CrawlingRun run = CrawlingRun.builder()
+                .runType(CrawlingRunType.SHARD)
+                .parentRunId(parentRun.getId())
+                .label(label)
+                .state(CrawlingRunState.QUEUED)
+                .targetDate(parentRun.getTargetDate())
+                .songsTotal(songsTotal)
+                .build();
+        return crawlingRunRepository.save(run);
+    }
+
+    /**
+     * 프로세스가 실제로 시작되었음을 기록합니다.
+     * 분할 실행이면 상위 실행도 시작 상태로 바꿉니다.
+     */
+    @Transactional
+    public void markRunning(String runId, long pid) {
+        crawlingRunRepository.findById(runId).ifPresent(run -> {
+            LocalDateTime now = LocalDateTime.now();
+            run.markRunning(pid, now);
+            if (run.getParentRunId() != null) {
+                crawlingRunRepository.findById(run.getParentRunId())
+                        .ifPresent(parentRun -> parentRun.markRunning(now));
+            }
+        });
+    }
+
+    /**
+     * 프로세스 종료 결과를 기록합니다.
+     *
+     * @param result 프로세스 결과 (프로세스를 시작하지 못했으면 null)
+     * @param error  실행 중 발생한 예외 (정상 종료면 null)
+     */
+    @Transactional
+    public void markFinished(String runId, CrawlingProcessResultDto result, Throwable error) {
+        crawlingRunRepository.findById(runId).ifPresent(run -> {
+            Integer songsProcessed = countSongsProcessed(run);
+            if (error != null || result == null) {
+                String message = error != null ? error.getMessage() : "프로세스 결과 없음";
+                run.markFinished(CrawlingRunState.FAILED, null, songsProcessed, message);
+            } else if (result.timedOut()) {
+                run.markFinished(CrawlingRunState.TIMED_OUT, result.exitCode(), songsProcessed, "실행 시간 초과");
+            } else if (result.isSuccess()) {
+                run.markFinished(CrawlingRunState.SUCCEEDED, result.exitCode(), songsProcessed, null);
+            } else {
+                run.markFinished(CrawlingRunState.FAILED, result.exitCode(), songsProcessed, "비정상 종료");
+            }
+            log.info("크롤링 실행 종료 기록: runId={}, state={}, 처리 곡 수={}/{}", runId, run.getState(),
+                    songsProcessed, run.getSongsTotal());
+        });
+    }
+
+    /**
+     * 개별 프로세스 결과를 모아 분할 실행 전체 결과를 기록합니다.
+     * 모든 프로세스가 성공해야 성공으로 처리합니다.
+     */
+    @Transactional
+    public void markParentFinished(String parentRunId) {
+        crawlingRunRepository.findById(parentRunId).ifPresent(parentRun -> {
+            List<CrawlingRun> shards = crawlingRunRepository.findByParentRunIdOrderByCreatedAtAsc(parentRunId);
+            List<CrawlingRun> failedShards = shards.stream()
+                    .filter(shard -> shard.getState() != CrawlingRunState.SUCCEEDED)
+                    .toList();
+            Integer exitCode = failedShards.stream()
+                    .map(CrawlingRun::getExitCode)
+                    .filter(code -> code != null && code != 0)
+                    .findFirst()
+                    .orElse(failedShards.isEmpty() ? 0 : null);
+
+            String message = String.format("분할 실행 %d/%d 성공", shards.size() - failedShards.size(), shards.size());
+            if (!failedShards.isEmpty()) {
+                message += ", 실패: " + failedShards.stream().map(CrawlingRun::getLabel).toList();
+            }
+            CrawlingRunState state = failedShards.isEmpty() ? CrawlingRunState.SUCCEEDED : CrawlingRunState.FAILED;
+            parentRun.markFinished(state, exitCode, countSongsProcessed(parentRun), message);
+            log.info("분할 크롤링 실행 종료 기록: runId={}, {}", parentRunId, message);
+        });
+    }
+
+    /**
+     * 가장 최근 실행을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CrawlingRunDto> getCurrentRun(CrawlingRunType runType) {
+        return crawlingRunRepository.findFirstByRunTypeOrderByCreatedAtDesc(runType).map(this::toDto);
+    }
+
+    /**
+     * 실행 상태를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public CrawlingRunDto getRun(String runId) {
+        return crawlingRunRepository.findById(runId)
+                .map(this::toDto)
+                .orElseThrow(() -> new BaseException(ResponseCode.NOT_FOUND, "크롤링 실행 정보를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 애플리케이션 재시작으로 끝나지 못한 실행을 실패로 정리합니다.
+     * 크롤러 프로세스는 애플리케이션 종료 시 함께 종료됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failInterruptedRuns() {
+        List<CrawlingRun> interruptedRuns = crawlingRunRepository.findByStateIn(CrawlingRunState.ACTIVE_STATES);
+        interruptedRuns.forEach(run -> run.markFinished(CrawlingRunState.FAILED, null, countSongsProcessed(run),
+                "애플리케이션 재시작으로 중단됨"));
+        if (!interruptedRuns.isEmpty()) {
+            log.warn("중단된 크롤링 실행 {}건을 실패 처리했습니다.", interruptedRuns.size());
+        }
+    }
+
+    private CrawlingRunDto toDto(CrawlingRun run) {
+        List<CrawlingRunDto> shards = crawlingRunRepository.findByParentRunIdOrderByCreatedAtAsc(run.getId())
+                .stream()
+                .map(this::toDto)
+                .toList();
+        // 실행 중이면 현재까지 저장된 곡 수와 크롤러 진행 이벤트로 진행률 표시
+        boolean running = run.getState() == CrawlingRunState.RUNNING;
+        Integer songsProcessed = running ? countSongsProcessed(run) : run.getSongsProcessed();
+        CrawlingProgressDto progress = running ? crawlingLogIngestor.getProgress(run.getPid()).orElse(null) : null;
+        return CrawlingRunDto.of(run, songsProcessed, progress, shards);
+    }
+
+    /**
+     * 기준 날짜에 데이터가 저장된 곡 수 (개별 프로세스 단위로는 집계하지 않음)
+     */
+    private Integer countSongsProcessed(CrawlingRun run) {
+        if (run.getRunType() == CrawlingRunType.SHARD) {
+            return null;
+        }
+        return (int) crawlingDataRepository.countDistinctSongsByDate(run.getTargetDate());
+    }
+}
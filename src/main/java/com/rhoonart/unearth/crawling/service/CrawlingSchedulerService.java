@@ -1,12 +1,18 @@
 package com.rhoonart.unearth.crawling.service;
 
+import com.rhoonart.unearth.common.exception.BaseException;
+import com.rhoonart.unearth.crawling.entity.CrawlingRun;
+import com.rhoonart.unearth.crawling.entity.CrawlingRunType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+
 /**
  * 크롤링 스케줄러 서비스
+ * 스케줄 실행과 수동 실행 모두 crawling_run 기록으로 중복 실행을 막는다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -14,9 +20,8 @@ import org.springframework.stereotype.Service;
 public class CrawlingSchedulerService {
 
     private final CrawlingExecuteService crawlingExecuteService;
-
-    // 크롤링 실행 상태 추적
-    private volatile boolean isCrawlingRunning = false;
+    private final CrawlingRunService crawlingRunService;
+    private final CrawlingShardService crawlingShardService;
 
     /**
      * 매일 오후 5시에 전체 크롤링 실행 (운영용)
@@ -26,8 +31,10 @@ public class CrawlingSchedulerService {
     public void scheduleFullCrawlingDaily() {
         log.info("일일 전체 크롤링 스케줄 실행");
         try {
-            crawlingExecuteService.executeFullCrawling();
-            log.info("✅ 일일 전체 크롤링 스케줄 완료");
+            CrawlingRun run = startFullCrawling(false);
+            log.info("✅ 일일 전체 크롤링 스케줄 등록 완료: runId={}", run.getId());
+        } catch (BaseException e) {
+            log.warn("⏭️ 일일 전체 크롤링 스케줄 건너뜀: {}", e.getMessage());
         } catch (Exception e) {
             log.error("❌ 일일 전체 크롤링 스케줄 실행 중 오류", e);
         }
@@ -35,33 +42,46 @@ public class CrawlingSchedulerService {
 
     /**
      * 수동으로 전체 크롤링 실행
+     *
+     * @param resume true면 오늘 이미 저장된 곡/플랫폼은 건너뛰고 남은 작업만 실행
+     * @return 등록된 실행 정보
      */
-    public void executeFullCrawlingManually() {
-        log.info("🔧 수동 전체 크롤링 실행");
+    public CrawlingRun executeFullCrawlingManually(boolean resume) {
+        log.info("🔧 수동 전체 크롤링 실행 (재시작: {})", resume);
+        CrawlingRun run = startFullCrawling(resume);
+        log.info("✅ 수동 전체 크롤링 등록 완료: runId={}", run.getId());
+        return run;
+    }
 
-        // 이미 크롤링이 실행 중이면 예외 발생
-        if (isCrawlingRunning) {
-            throw new RuntimeException("크롤링이 이미 실행 중입니다. 잠시 후 다시 시도해주세요.");
+    /**
+     * 실행 등록 후 프로세스를 시작합니다.
+     * 등록(중복 확인)과 프로세스 제출을 한 번에 하나씩만 처리합니다.
+     */
+    private synchronized CrawlingRun startFullCrawling(boolean resume) {
+        LocalDate targetDate = LocalDate.now();
+        CrawlingRun run = crawlingRunService.registerRun(CrawlingRunType.FULL, targetDate, resume ? "재시작" : null);
+        String runId = run.getId();
+
+        if (crawlingShardService.isEnabled()) {
+            // 곡 묶음/플랫폼별로 나눠 병렬 실행
+            try {
+                crawlingShardService.executeShards(run, resume);
+            } catch (RuntimeException e) {
+                crawlingRunService.markFinished(runId, null, e);
+                throw e;
+            }
+            return run;
         }
 
         try {
-            isCrawlingRunning = true;
-            crawlingExecuteService.executeFullCrawling();
-            log.info("✅ 수동 전체 크롤링 완료");
-        } catch (Exception e) {
-            log.error("❌ 수동 전체 크롤링 실행 중 오류", e);
+            crawlingExecuteService
+                    .executeFullCrawling(targetDate, resume,
+                            process -> crawlingRunService.markRunning(runId, process.pid()))
+                    .whenComplete((result, error) -> crawlingRunService.markFinished(runId, result, error));
+        } catch (RuntimeException e) {
+            crawlingRunService.markFinished(runId, null, e);
             throw e;
-        } finally {
-            // 10분 후에 상태 초기화
-            new Thread(() -> {
-                try {
-                    Thread.sleep(10 * 60 * 1000); // 10분
-                    isCrawlingRunning = false;
-                    log.info("🔄 수동 크롤링 실행 상태 초기화 완료");
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }).start();
         }
+        return run;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingDataDto;
+import com.rhoonart.unearth.crawling.dto.VideoInfoDto;
+import com.rhoonart.unearth.crawling.entity.CrawlingData;
+import com.rhoonart.unearth.crawling.entity.PlatformType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 곡의 전체 일별 크롤링 데이터 (캐시 값)
+ * 날짜별 플랫폼 데이터와 영상 정보를 담으며, 생성 후 변경하지 않으므로 여러 요청이 함께 읽는다.
+ */
+final class CrawlingSeries {
+
+    // 최신순 날짜 목록
+    private final List<LocalDate> dates;
+    private final Map<LocalDate, List<CrawlingDataDto>> rowsByDate;
+    private final Map<LocalDate, List<VideoInfoDto>> videoInfosByDate;
+    // 캐시 용량 계산용 (데이터 행 수 + 영상 정보 수)
+    private final int weight;
+
+    private CrawlingSeries(List<LocalDate> dates, Map<LocalDate, List<CrawlingDataDto>> rowsByDate,
+            Map<LocalDate, List<VideoInfoDto>> videoInfosByDate, int weight) {
+        this.dates = dates;
+        this.rowsByDate = rowsByDate;
+        this.videoInfosByDate = videoInfosByDate;
+        this.weight = weight;
+    }
+
+    /**
+     * @param rows       곡의 전체 크롤링 데이터 (날짜, 플랫폼 오름차순)
+     * @param videoInfos 날짜별 영상 정보
+     */
+    static CrawlingSeries of(List<CrawlingData> rows, Map<LocalDate, List<VideoInfoDto>> videoInfos) {
+        Map<LocalDate, List<CrawlingDataDto>> rowsByDate = new HashMap<>();
+        List<LocalDate> dates = new ArrayList<>();
+        for (CrawlingData row : rows) {
+            List<CrawlingDataDto> dayRows = rowsByDate.get(row.getCrawlDate());
+            if (dayRows == null) {
+                dayRows = new ArrayList<>();
+                rowsByDate.put(row.getCrawlDate(), dayRows);
+                dates.add(row.getCrawlDate());
+            }
+            dayRows.add(toDto(row));
+        }
+        Collections.reverse(dates);
+        rowsByDate.replaceAll((date, dayRows) -> List.copyOf(dayRows));
+
+        // 데이터가 있는 날짜의 영상 정보만 보관
+        Map<LocalDate, List<VideoInfoDto>> videoInfosByDate = new HashMap<>();
+        int videoInfoCount = 0;
+        for (LocalDate date : dates) {
+            List<VideoInfoDto> dayVideoInfos = videoInfos.get(date);
+            if (dayVideoInfos != null) {
+                videoInfosByDate.put(date, List.copyOf(dayVideoInfos));
+                videoInfoCount += dayVideoInfos.size();
+            }
+        }
+        return new CrawlingSeries(List.copyOf(dates), rowsByDate, videoInfosByDate, rows.size() + videoInfoCount);
+    }
+
+    /**
+     * 조건에 맞는 데이터가 있는 날짜 목록 (최신순)
+     *
+     * @param platform         플랫폼 (null이면 전체)
+     * @param startDate        시작일 (null이면 제한 없음)
+     * @param endDateExclusive 종료일 다음 날 (null이면 제한 없음)
+     */
+    List<LocalDate> getDates(PlatformType platform, LocalDate startDate, LocalDate endDateExclusive) {
+        if (platform == null && startDate == null && endDateExclusive == null) {
+            return dates;
+        }
+        return dates.stream()
+                .filter(date -> startDate == null || !date.isBefore(startDate))
+                .filter(date -> endDateExclusive == null || date.isBefore(endDateExclusive))
+                .filter(date -> platform == null || !getRows(date, platform).isEmpty())
+                .toList();
+    }
+
+    /**
+     * 해당 날짜의 플랫폼별 데이터 (플랫폼 오름차순)
+     */
+    List<CrawlingDataDto> getRows(LocalDate date, PlatformType platform) {
+        List<CrawlingDataDto> dayRows = rowsByDate.getOrDefault(date, List.of());
+        if (platform == null) {
+            return dayRows;
+        }
+        return dayRows.stream().filter(row -> row.getPlatform() == platform).toList();
+    }
+
+    List<VideoInfoDto> getVideoInfos(LocalDate date) {
+        return videoInfosByDate.getOrDefault(date, List.of());
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    /**
+     * 화면용 DTO 변환 (전날 대비 증가량은 크롤링 저장 시 계산된 값 사용)
+     */
+    static CrawlingDataDto toDto(CrawlingData row) {
+        return CrawlingDataDto.ofBasicData(
+                row.getCrawlDate(),
+                row.getPlatform(),
+                row.getViews(),
+                row.getListeners(),
+                CalculateIncreaseDataService.storedIncrease(row.getViewsIncrease()),
+                CalculateIncreaseDataService.storedIncrease(row.getListenersIncrease()));
+    }
+}
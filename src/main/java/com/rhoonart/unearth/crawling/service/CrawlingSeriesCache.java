@@ -0,0 +1,79 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhoonart.unearth.song.entity.SongInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 곡별 일별 크롤링 데이터 캐시
+ * 크롤링 데이터는 하루 한 번 크롤링 때만 바뀌므로, 곡 단위로 전체 시계열을 메모리에 두고 페이지는 메모리에서 자른다.
+ * 용량은 보관 행 수(weight) 기준으로 제한하고 W-TinyLFU 정책으로 내보낸다.
+ * 해당 곡의 크롤링 실행이 끝나면 무효화하며, 적중률은 actuator metrics(cache.gets 등, cache=crawlingSeries)로 확인한다.
+ */
+@Slf4j
+@Component
+public class CrawlingSeriesCache {
+
+    static final String CACHE_NAME = "crawlingSeries";
+
+    private final Cache<String, CrawlingSeries> cache;
+    private final long maxSeriesRows;
+
+    public CrawlingSeriesCache(MeterRegistry meterRegistry,
+            @Value("${crawling.cache.max-weight:2000000}") long maxWeight,
+            @Value("${crawling.cache.max-series-rows:20000}") long maxSeriesRows,
+            @Value("${crawling.cache.expire-after-write-hours:24}") long expireAfterWriteHours) {
+        this.maxSeriesRows = maxSeriesRows;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String songId, CrawlingSeries series) -> series.getWeight())
+                // 크롤러를 웹 서버 밖에서 실행해 무효화가 누락된 경우 대비
+                .expireAfterWrite(Duration.ofHours(expireAfterWriteHours))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시할 수 있는 곡인지 확인합니다.
+     * 행 수를 아직 모르거나 너무 많은 곡은 캐시하지 않고 DB에서 페이지 단위로 조회합니다.
+     */
+    public boolean isCacheable(SongInfo songInfo) {
+        Long rowCount = songInfo.getCrawlingDataCount();
+        return rowCount != null && rowCount <= maxSeriesRows;
+    }
+
+    /**
+     * 곡의 시계열을 조회합니다. 없으면 loader로 만들어 보관합니다.
+     */
+    CrawlingSeries get(String songId, Function<String, CrawlingSeries> loader) {
+        return cache.get(songId, loader);
+    }
+
+    /**
+     * 곡의 캐시를 무효화합니다.
+     */
+    public void invalidate(String songId) {
+        cache.invalidate(songId);
+    }
+
+    /**
+     * 여러 곡의 캐시를 무효화합니다. (크롤링 실행 종료 시)
+     */
+    public void invalidateAll(Collection<String> songIds) {
+        if (songIds.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(songIds);
+        log.debug("크롤링 데이터 캐시 무효화: {}곡", songIds.size());
+    }
+}
@@ -0,0 +1,147 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingProcessResultDto;
+import com.rhoonart.unearth.crawling.dto.CrawlingShardDto;
+import com.rhoonart.unearth.crawling.entity.CrawlingRun;
+import com.rhoonart.unearth.crawling.entity.PlatformType;
+import com.rhoonart.unearth.crawling.repository.CrawlingPeriodRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분할 전체 크롤링 서비스
+ * 활성 곡을 N개 묶음(선택적으로 플랫폼별)으로 나눠 여러 크롤러 프로세스로 병렬 실행하고,
+ * 모든 프로세스가 끝나면 결과를 상위 실행 하나로 모은다.
+ */
+@Slf4j
+@Service
+public class CrawlingShardService {
+
+    private final CrawlingExecuteService crawlingExecuteService;
+    private final CrawlingRunService crawlingRunService;
+    private final CrawlingPeriodRepository crawlingPeriodRepository;
+    private final int partitions;
+    private final boolean splitByPlatform;
+    private final int parallelism;
+
+    public CrawlingShardService(CrawlingExecuteService crawlingExecuteService,
+            CrawlingRunService crawlingRunService,
+            CrawlingPeriodRepository crawlingPeriodRepository,
+            @Value("${crawling.shard.partitions:1}") int partitions,
+            @Value("${crawling.shard.split-by-platform:false}") boolean splitByPlatform,
+            @Value("${crawling.shard.parallelism:2}") int parallelism) {
+        this.crawlingExecuteService = crawlingExecuteService;
+        this.crawlingRunService = crawlingRunService;
+        this.crawlingPeriodRepository = crawlingPeriodRepository;
+        this.partitions = Math.max(1, partitions);
+        this.splitByPlatform = splitByPlatform;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 분할 실행 설정 여부
+     */
+    public boolean isEnabled() {
+        return partitions > 1 || splitByPlatform;
+    }
+
+    /**
+     * 등록된 전체 실행을 분할 프로세스로 나눠 실행합니다.
+     *
+     * @param parentRun 등록된 전체 크롤링 실행
+     * @param resume    true면 기준 날짜에 이미 저장된 곡/플랫폼은 건너뜀
+     */
+    public void executeShards(CrawlingRun parentRun, boolean resume) {
+        List<CrawlingShardDto> shards = planShards(parentRun.getTargetDate());
+        if (shards.isEmpty()) {
+            log.warn("⚠️ 분할 크롤링 대상 곡이 없습니다. (기준 날짜: {})", parentRun.getTargetDate());
+            crawlingRunService.markParentFinished(parentRun.getId());
+            return;
+        }
+
+        List<String> shardRunIds = shards.stream()
+                .map(shard -> crawlingRunService.registerShardRun(parentRun, shard.label(), shard.songIds().size())
+                        .getId())
+                .toList();
+        log.info("분할 전체 크롤링 시작: runId={}, 프로세스 {}개, 동시 실행 {}개", parentRun.getId(), shards.size(),
+                parallelism);
+
+        // 동시 실행 수만큼 먼저 띄우고, 하나가 끝날 때마다 다음 작업을 실행
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(shards.size());
+        for (int i = 0; i < Math.min(parallelism, shards.size()); i++) {
+            launchNext(parentRun, shards, shardRunIds, resume, nextIndex, remaining);
+        }
+    }
+
+    private void launchNext(CrawlingRun parentRun, List<CrawlingShardDto> shards, List<String> shardRunIds,
+            boolean resume, AtomicInteger nextIndex, AtomicInteger remaining) {
+        int index = nextIndex.getAndIncrement();
+        if (index >= shards.size()) {
+            return;
+        }
+
+        CrawlingShardDto shard = shards.get(index);
+        String shardRunId = shardRunIds.get(index);
+        launchShard(parentRun.getTargetDate(), shard, resume, shardRunId).whenComplete((result, error) -> {
+            crawlingRunService.markFinished(shardRunId, result, error);
+            if (remaining.decrementAndGet() == 0) {
+                crawlingRunService.markParentFinished(parentRun.getId());
+            } else {
+                launchNext(parentRun, shards, shardRunIds, resume, nextIndex, remaining);
+            }
+        });
+    }
+
+    private CompletableFuture<CrawlingProcessResultDto> launchShard(LocalDate targetDate, CrawlingShardDto shard,
+            boolean resume, String shardRunId) {
+        try {
+            return crawlingExecuteService.executeFullCrawlingShard(targetDate, shard, resume,
+                    process -> crawlingRunService.markRunning(shardRunId, process.pid()));
+        } catch (RuntimeException e) {
+            // 대기열 초과 등으로 등록하지 못한 작업은 실패로 기록하고 다음 작업으로 넘어간다
+            log.error("분할 크롤링 작업 등록 실패: {}", shard.label(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 활성 곡을 묶음으로 나누고, 설정에 따라 플랫폼별 작업으로 다시 나눕니다.
+     * YouTube 조회수 수집은 전체 기간을 대상으로 하므로 첫 작업 하나만 담당합니다.
+     */
+    List<CrawlingShardDto> planShards(LocalDate targetDate) {
+        List<String> songIds = crawlingPeriodRepository.findActiveSongIdsOnDate(targetDate);
+        if (songIds.isEmpty()) {
+            return List.of();
+        }
+
+        int partitionSize = (songIds.size() + partitions - 1) / partitions;
+        int partitionCount = (songIds.size() + partitionSize - 1) / partitionSize;
+        List<String> platforms = new ArrayList<>();
+        if (splitByPlatform) {
+            for (PlatformType platformType : PlatformType.values()) {
+                platforms.add(platformType.name().toLowerCase());
+            }
+        } else {
+            platforms.add(null);
+        }
+
+        List<CrawlingShardDto> shards = new ArrayList<>();
+        for (int partition = 0; partition < partitionCount; partition++) {
+            int from = partition * partitionSize;
+            List<String> partitionSongIds = songIds.subList(from, Math.min(from + partitionSize, songIds.size()));
+            for (String platform : platforms) {
+                shards.add(new CrawlingShardDto(partition + 1, partitionCount, List.copyOf(partitionSongIds),
+                        platform, shards.isEmpty()));
+            }
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,123 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingProcessResultDto;
+import com.rhoonart.unearth.crawling.exception.CrawlingQueueFullException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새로 등록된 곡의 첫 크롤링 대기열
+ * 일괄 등록처럼 곡이 한꺼번에 많이 들어올 때 batch-size 곡씩 묶어 parallelism개 프로세스로만 실행해
+ * 일반 단일 곡 크롤링과 전체 크롤링이 쓸 프로세스 대기열을 모두 차지하지 않도록 한다.
+ * 대기 중인 곡은 메모리에만 있으므로 재시작하면 사라진다. (다음 전체 크롤링이나 단일 곡 크롤링으로 보완)
+ */
+@Slf4j
+@Component
+public class NewSongCrawlingQueue {
+
+    private final CrawlingExecuteService crawlingExecuteService;
+    private final int batchSize;
+    private final int parallelism;
+
+    private final Deque<String> pendingSongIds = new ArrayDeque<>();
+    private int running;
+
+    public NewSongCrawlingQueue(CrawlingExecuteService crawlingExecuteService,
+            @Value("${crawling.new-song.batch-size:20}") int batchSize,
+            @Value("${crawling.new-song.parallelism:1}") int parallelism) {
+        this.crawlingExecuteService = crawlingExecuteService;
+        this.batchSize = Math.max(1, batchSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 곡을 첫 크롤링 대기열에 넣고, 실행 가능한 만큼 바로 실행합니다.
+     *
+     * @param songIds 새로 등록된 음원 ID 목록
+     */
+    public void enqueue(Collection<String> songIds) {
+        if (songIds.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            pendingSongIds.addAll(songIds);
+        }
+        log.info("첫 크롤링 대기열 등록: {}곡 (대기 {}곡)", songIds.size(), getPendingCount());
+        launchAvailable();
+    }
+
+    /**
+     * 대기 중인 곡 수
+     */
+    public synchronized int getPendingCount() {
+        return pendingSongIds.size();
+    }
+
+    /**
+     * 프로세스 대기열이 가득 차 실행하지 못한 묶음을 주기적으로 다시 실행합니다.
+     */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void retryPending() {
+        launchAvailable();
+    }
+
+    private void launchAvailable() {
+        List<String> batch;
+        while ((batch = takeBatch()) != null) {
+            List<String> songIds = batch;
+            CompletableFuture<CrawlingProcessResultDto> future;
+            try {
+                future = crawlingExecuteService.executeSongBatchCrawling(songIds);
+            } catch (CrawlingQueueFullException e) {
+                // 대기열이 가득 차 등록하지 못한 묶음은 앞에 되돌려 두고 다음 재시도에서 실행
+                log.warn("⚠️ 크롤링 대기열이 가득 차 첫 크롤링을 잠시 후 다시 시도합니다: {}곡", songIds.size());
+                putBack(songIds);
+                return;
+            } catch (RuntimeException e) {
+                // 다시 시도해도 실패할 오류는 묶음을 버린다 (다음 전체 크롤링이나 단일 곡 크롤링으로 보완)
+                log.error("❌ 첫 크롤링 실행 등록 실패, 묶음을 건너뜁니다: {}곡 (첫 songId={})", songIds.size(),
+                        songIds.get(0), e);
+                synchronized (this) {
+                    running--;
+                }
+                continue;
+            }
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    log.error("❌ 첫 크롤링 실패: {}곡 (첫 songId={})", songIds.size(), songIds.get(0), error);
+                }
+                synchronized (this) {
+                    running--;
+                }
+                launchAvailable();
+            });
+        }
+    }
+
+    private synchronized List<String> takeBatch() {
+        if (running >= parallelism || pendingSongIds.isEmpty()) {
+            return null;
+        }
+        List<String> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && !pendingSongIds.isEmpty()) {
+            batch.add(pendingSongIds.pollFirst());
+        }
+        running++;
+        return batch;
+    }
+
+    private synchronized void putBack(List<String> songIds) {
+        running--;
+        for (int i = songIds.size() - 1; i >= 0; i--) {
+            pendingSongIds.addFirst(songIds.get(i));
+        }
+    }
+}
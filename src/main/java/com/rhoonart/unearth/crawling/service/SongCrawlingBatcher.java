@@ -0,0 +1,121 @@
+package com.rhoonart.unearth.crawling.service;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingProcessResultDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 단일 곡 크롤링 요청 모음기
+ * 짧은 시간 안에 들어온 곡 ID를 모아 크롤러 프로세스 한 번으로 실행한다.
+ * 첫 요청 후 window가 지나거나 maxSize에 도달하면 모인 곡들을 한꺼번에 내보낸다.
+ */
+@Slf4j
+class SongCrawlingBatcher {
+
+    private final Function<List<String>, CompletableFuture<CrawlingProcessResultDto>> batchLauncher;
+    private final Duration window;
+    private final int maxSize;
+    private final ScheduledExecutorService flushScheduler;
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<CrawlingProcessResultDto>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    SongCrawlingBatcher(Function<List<String>, CompletableFuture<CrawlingProcessResultDto>> batchLauncher,
+            Duration window, int maxSize) {
+        this.batchLauncher = batchLauncher;
+        this.window = window;
+        this.maxSize = Math.max(1, maxSize);
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("crawling-batch-"));
+    }
+
+    /**
+     * 곡을 다음 배치에 추가합니다.
+     * 같은 곡이 이미 대기 중이면 기존 요청의 결과를 함께 돌려줍니다.
+     *
+     * @param songId 크롤링할 곡의 ID
+     * @return 곡이 포함된 배치 프로세스 종료 시 완료되는 결과
+     */
+    CompletableFuture<CrawlingProcessResultDto> add(String songId) {
+        Map<String, CompletableFuture<CrawlingProcessResultDto>> batchToLaunch = null;
+        CompletableFuture<CrawlingProcessResultDto> result;
+
+        synchronized (lock) {
+            result = pending.computeIfAbsent(songId, id -> new CompletableFuture<>());
+            if (pending.size() >= maxSize) {
+                batchToLaunch = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = flushScheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        // 프로세스 등록은 락 밖에서 수행
+        if (batchToLaunch != null) {
+            launch(batchToLaunch);
+        }
+        return result;
+    }
+
+    /**
+     * 대기 중인 곡들을 즉시 실행합니다.
+     */
+    void flush() {
+        Map<String, CompletableFuture<CrawlingProcessResultDto>> batchToLaunch;
+        synchronized (lock) {
+            batchToLaunch = takePending();
+        }
+        launch(batchToLaunch);
+    }
+
+    /**
+     * 남은 요청을 내보내고 스케줄러를 종료합니다.
+     */
+    void shutdown() {
+        flush();
+        flushScheduler.shutdownNow();
+    }
+
+    private Map<String, CompletableFuture<CrawlingProcessResultDto>> takePending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        Map<String, CompletableFuture<CrawlingProcessResultDto>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void launch(Map<String, CompletableFuture<CrawlingProcessResultDto>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<String> songIds = new ArrayList<>(batch.keySet());
+        log.info("단일 곡 크롤링 배치 실행: {}곡", songIds.size());
+        try {
+            batchLauncher.apply(songIds).whenComplete((processResult, error) -> batch.values().forEach(future -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(processResult);
+                }
+            }));
+        } catch (RuntimeException e) {
+            // 대기열 초과 등으로 등록 자체가 실패한 경우
+            log.error("단일 곡 크롤링 배치 등록 실패: songIds={}", songIds, e);
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.rhoonart.unearth.global.initializer;
+
+import com.rhoonart.unearth.crawling.entity.CrawlingData;
+import com.rhoonart.unearth.crawling.repository.CrawlingDataRepository;
+import com.rhoonart.unearth.song.repository.SongInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * crawling_data 스키마 보정
+ * 1. crawl_date 컬럼 추가 이전 행의 crawl_date를 created_at 기준으로 채운다.
+ * (crawl_date가 빈 행이 남은 채로 유니크 제약이 먼저 만들어져 있으면 채우다 중복 키로 실패하므로 제약을 먼저 지운다)
+ * 2. 곡/플랫폼/날짜 중복 행을 최신 행만 남기고 정리한 뒤 유니크 제약이 없으면 추가하고, crawl_date를 NOT NULL로 바꾼다.
+ * (중복이 남아 있으면 제약 추가가 실패하므로 ddl-auto가 아닌 여기서 정리 후 직접 추가)
+ * 이전 (song_id, platform, crawl_date) 일반 인덱스가 남아 있으면 유니크 제약과 겹치므로 지운다.
+ * 3. 증가량 컬럼 추가 이전 행의 전날 대비 증가량을 채운다.
+ * 4. 음원별 크롤링 데이터 행 수가 비어 있으면 채운다. (이후에는 크롤러가 새 행 저장 시 증가)
+ * 5. 음원의 현재 크롤링 기간이 비어 있으면 가장 최근 크롤링 기간으로 채운다. (이후에는 기간 생성 시 갱신)
+ * 이미 반영된 경우 조회 몇 번으로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlingDataInitializer implements CommandLineRunner {
+
+    private static final int BATCH_SIZE = 10000;
+    private static final String LEGACY_SONG_PLATFORM_DATE_INDEX = "idx_crawling_data_song_platform_date";
+
+    private final CrawlingDataRepository crawlingDataRepository;
+    private final SongInfoRepository songInfoRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        dropUniqueConstraintIfBackfillPending();
+        backfillCrawlDate();
+        ensureUniqueConstraint();
+        ensureCrawlDateNotNull();
+        dropIndexIfExists(LEGACY_SONG_PLATFORM_DATE_INDEX);
+        backfillIncrease();
+        backfillCrawlingDataCount();
+        backfillCrawlWindow();
+    }
+
+    private void backfillCrawlDate() {
+        long total = 0;
+        int updated;
+        do {
+            updated = crawlingDataRepository.backfillCrawlDate(BATCH_SIZE);
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("크롤링 데이터 crawl_date 백필 완료: {}건", total);
+        }
+    }
+
+    private void backfillIncrease() {
+        long total = 0;
+        int updated;
+        do {
+            updated = crawlingDataRepository.backfillIncrease(BATCH_SIZE);
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("크롤링 데이터 증가량 백필 완료: {}건", total);
+        }
+    }
+
+    private void backfillCrawlingDataCount() {
+        long total = 0;
+        int updated;
+        do {
+            updated = songInfoRepository.backfillCrawlingDataCount(BATCH_SIZE);
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("음원별 크롤링 데이터 행 수 백필 완료: {}곡", total);
+        }
+    }
+
+    private void backfillCrawlWindow() {
+        int updated = songInfoRepository.backfillCrawlWindow();
+        if (updated > 0) {
+            log.info("음원 현재 크롤링 기간 백필 완료: {}곡", updated);
+        }
+    }
+
+    private void dropUniqueConstraintIfBackfillPending() {
+        if (!indexExists(CrawlingData.UNIQUE_SONG_PLATFORM_DATE)) {
+            return;
+        }
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM crawling_data WHERE crawl_date IS NULL)", Integer.class);
+        if (pending != null && pending > 0) {
+            dropIndexIfExists(CrawlingData.UNIQUE_SONG_PLATFORM_DATE);
+            log.info("crawl_date 백필 전 유니크 제약 제거: {}", CrawlingData.UNIQUE_SONG_PLATFORM_DATE);
+        }
+    }
+
+    private void ensureUniqueConstraint() {
+        if (indexExists(CrawlingData.UNIQUE_SONG_PLATFORM_DATE)) {
+            return;
+        }
+
+        // 백필 후에는 기존 행의 crawl_date가 DATE(created_at)이므로 같은 날 중복 저장된 행이 한 묶음이 됨
+        int deleted = crawlingDataRepository.deleteDuplicatedDailyRows();
+        log.info("크롤링 데이터 중복 행 정리 완료: {}건 삭제", deleted);
+
+        jdbcTemplate.execute("ALTER TABLE crawling_data ADD CONSTRAINT " + CrawlingData.UNIQUE_SONG_PLATFORM_DATE
+                + " UNIQUE (song_id, platform, crawl_date)");
+        log.info("크롤링 데이터 유니크 제약 추가 완료: {}", CrawlingData.UNIQUE_SONG_PLATFORM_DATE);
+    }
+
+    private void ensureCrawlDateNotNull() {
+        String nullable = jdbcTemplate.queryForObject("""
+                SELECT IS_NULLABLE FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                AND table_name = 'crawling_data'
+                AND column_name = 'crawl_date'
+                """, String.class);
+        if ("YES".equals(nullable)) {
+            jdbcTemplate.execute("ALTER TABLE crawling_data MODIFY crawl_date DATE NOT NULL");
+            log.info("크롤링 데이터 crawl_date NOT NULL 변경 완료");
+        }
+    }
+
+    private void dropIndexIfExists(String indexName) {
+        if (indexExists(indexName)) {
+            jdbcTemplate.execute("ALTER TABLE crawling_data DROP INDEX " + indexName);
+            log.info("크롤링 데이터 인덱스 제거: {}", indexName);
+        }
+    }
+
+    private boolean indexExists(String indexName) {
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                AND table_name = 'crawling_data'
+                AND index_name = ?
+                """, Integer.class, indexName);
+        return exists != null && exists > 0;
+    }
+}
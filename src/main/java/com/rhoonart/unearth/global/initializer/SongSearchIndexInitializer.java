@@ -0,0 +1,61 @@
+package com.rhoonart.unearth.global.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * 음원 검색용 FULLTEXT(ngram) 인덱스 생성
+ * JPA로는 FULLTEXT 인덱스를 선언할 수 없으므로 없으면 직접 추가한다.
+ * 영문 불용어(a, in, the 등)가 포함된 ngram이 색인에서 빠지지 않도록 불용어를 끄고 만든다.
+ * 검색 쿼리가 MATCH를 사용하므로 인덱스를 만들지 못하면 애플리케이션을 시작하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SongSearchIndexInitializer implements CommandLineRunner {
+
+    public static final String SONG_INFO_INDEX = "ft_song_info_search";
+    public static final String RIGHT_HOLDER_INDEX = "ft_right_holder_search";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        ensureFullTextIndex("song_info", SONG_INFO_INDEX,
+                "artist_ko, artist_en, title_ko, title_en, album_ko, album_en");
+        ensureFullTextIndex("right_holder", RIGHT_HOLDER_INDEX, "holder_name");
+    }
+
+    private void ensureFullTextIndex(String table, String indexName, String columns) {
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                AND table_name = ?
+                AND index_name = ?
+                """, Integer.class, table, indexName);
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        try {
+            // 불용어 설정은 세션 변수이므로 같은 커넥션에서 인덱스를 만든다
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                    statement.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName
+                            + " (" + columns + ") WITH PARSER ngram");
+                }
+                return null;
+            });
+            log.info("검색 인덱스 추가 완료: {}.{}", table, indexName);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("검색 인덱스 추가 실패: " + table + "." + indexName, e);
+        }
+    }
+}
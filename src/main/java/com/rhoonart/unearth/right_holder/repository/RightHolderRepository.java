@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,8 +37,17 @@ public interface RightHolderRepository
   @Query("SELECT rh.holderName FROM RightHolder rh ORDER BY rh.holderName")
   List<String> findAllHolderNames();
 
+  @Query("SELECT rh.holderName FROM RightHolder rh WHERE TRIM(rh.holderName) IN :names")
+  List<String> findHolderNamesByNames(@Param("names") Collection<String> names);
+
   Optional<RightHolder> findByHolderName(String holderName);
 
+  List<RightHolder> findByHolderNameIn(Collection<String> holderNames);
+
+  // 권리자명 캐시용 [holderName, id] 목록
+  @Query("SELECT rh.holderName, rh.id FROM RightHolder rh")
+  List<Object[]> findAllHolderNameAndIds();
+
   Optional<RightHolder> findByUserId(String userId);
 
   boolean existsByBusinessNumber(String businessNumber);
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 public class RightHolderInfoService {
 
     private final RightHolderRepository rightHolderRepository;
+    private final RightHolderNameCache rightHolderNameCache;
 
     /**
      * 권리자 이름 중복 체크
@@ -32,8 +33,9 @@ public class RightHolderInfoService {
 
     /**
      * 권리자 이름으로 권리자 조회
+     * 이름은 캐시에서 ID로 바꾸고, 연관관계 지정용 참조만 반환합니다. (필드에 접근하면 그때 조회)
      */
     public Optional<RightHolder> findRightHolderByName(String holderName) {
-        return rightHolderRepository.findByHolderName(holderName);
+        return rightHolderNameCache.findId(holderName).map(rightHolderRepository::getReferenceById);
     }
 }
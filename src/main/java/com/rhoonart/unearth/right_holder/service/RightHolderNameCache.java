@@ -0,0 +1,139 @@
+package com.rhoonart.unearth.right_holder.service;
+
+import com.rhoonart.unearth.common.util.TransactionUtil;
+import com.rhoonart.unearth.right_holder.entity.RightHolder;
+import com.rhoonart.unearth.right_holder.repository.RightHolderRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 권리자명 -> 권리자 ID 캐시 (메모리)
+ * 음원 등록/수정, CSV 일괄 등록의 권리자명 확인을 DB 조회 없이 처리한다.
+ * 시작 시 전체를 읽고, 이후에는 권리자 등록/수정이 커밋될 때 해당 이름만 반영한다.
+ * 캐시에 없는 이름은 DB에서 다시 확인하므로 다른 서버에서 등록된 권리자도 찾을 수 있다.
+ * DB를 읽는 동안 이름 변경이 반영되면 읽은 값이 이전 이름일 수 있으므로, 변경 횟수를 비교해 그 사이 변경이 없을 때만 캐시에 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RightHolderNameCache {
+
+    private final RightHolderRepository rightHolderRepository;
+
+    private final Map<String, String> idsByName = new ConcurrentHashMap<>();
+    private final Object renameLock = new Object();
+    // 반영된 이름 변경 횟수 (renameLock으로 보호)
+    private long renameCount;
+
+    /**
+     * DB의 전체 권리자로 캐시를 만듭니다.
+     * 읽는 동안 이름이 변경되면 이전 이름이 다시 들어가지 않도록 처음부터 다시 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        while (true) {
+            long version = currentRenameCount();
+            List<Object[]> rows = rightHolderRepository.findAllHolderNameAndIds();
+            synchronized (renameLock) {
+                if (renameCount == version) {
+                    rows.forEach(row -> idsByName.put((String) row[0], (String) row[1]));
+                    log.info("권리자명 캐시 생성 완료: {}명", rows.size());
+                    return;
+                }
+            }
+            log.info("권리자명 캐시 생성 중 이름이 변경되어 다시 읽습니다.");
+        }
+    }
+
+    /**
+     * 권리자명으로 권리자 ID를 찾습니다.
+     */
+    public Optional<String> findId(String holderName) {
+        if (holderName == null) {
+            return Optional.empty();
+        }
+        String id = idsByName.get(holderName);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        long version = currentRenameCount();
+        Optional<String> found = rightHolderRepository.findByHolderName(holderName).map(RightHolder::getId);
+        found.ifPresent(foundId -> putIfNotRenamed(Map.of(holderName, foundId), version));
+        return found;
+    }
+
+    /**
+     * 여러 권리자명의 권리자 ID를 찾습니다. (캐시에 없는 이름만 한 번의 쿼리로 조회)
+     *
+     * @return 권리자명 -> 권리자 ID (찾지 못한 이름은 빠짐)
+     */
+    public Map<String, String> findIds(Collection<String> holderNames) {
+        Map<String, String> ids = new HashMap<>();
+        List<String> missingNames = holderNames.stream()
+                .filter(name -> name != null && !idsByName.containsKey(name))
+                .toList();
+        Map<String, String> foundIds = new HashMap<>();
+        if (!missingNames.isEmpty()) {
+            long version = currentRenameCount();
+            for (RightHolder rightHolder : rightHolderRepository.findByHolderNameIn(missingNames)) {
+                foundIds.put(rightHolder.getHolderName(), rightHolder.getId());
+            }
+            putIfNotRenamed(foundIds, version);
+        }
+        for (String holderName : holderNames) {
+            String id = holderName != null ? idsByName.getOrDefault(holderName, foundIds.get(holderName)) : null;
+            if (id != null) {
+                ids.put(holderName, id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 등록된 권리자를 반영합니다. (트랜잭션 중이면 커밋 후)
+     */
+    public void put(String holderName, String rightHolderId) {
+        TransactionUtil.runAfterCommit(() -> idsByName.put(holderName, rightHolderId));
+    }
+
+    /**
+     * 변경된 권리자명을 반영합니다. (트랜잭션 중이면 커밋 후)
+     * DB 비교는 대소문자/끝 공백을 구분하지 않아 같은 권리자가 여러 표기로 캐시될 수 있으므로,
+     * 이전 이름만이 아니라 이 권리자 ID를 가리키는 모든 이름을 지운다.
+     */
+    public void rename(String rightHolderId, String holderName) {
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (renameLock) {
+                renameCount++;
+                idsByName.values().removeIf(rightHolderId::equals);
+                idsByName.put(holderName, rightHolderId);
+            }
+        });
+    }
+
+    private long currentRenameCount() {
+        synchronized (renameLock) {
+            return renameCount;
+        }
+    }
+
+    /**
+     * DB에서 읽은 권리자를 캐시에 넣습니다. 읽기 시작한 뒤 이름 변경이 반영되었으면 넣지 않는다.
+     */
+    private void putIfNotRenamed(Map<String, String> idsByFoundName, long version) {
+        synchronized (renameLock) {
+            if (renameCount == version) {
+                idsByName.putAll(idsByFoundName);
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.rhoonart.unearth.right_holder.entity.RightHolder;
 import com.rhoonart.unearth.right_holder.exception.CannotFindRightHolderException;
 import com.rhoonart.unearth.right_holder.repository.RightHolderRepository;
 import com.rhoonart.unearth.song.repository.SongInfoRepository;
+import com.rhoonart.unearth.song.service.SongAutocompleteIndex;
 import com.rhoonart.unearth.user.entity.User;
 import com.rhoonart.unearth.user.entity.Role;
 import com.rhoonart.unearth.common.exception.BaseException;
@@ -37,6 +38,8 @@ public class RightHolderService {
     private final RightHolderCreateService rightHolderCreateService;
     private final UserUpdateService userUpdateService;
     private final RightHolderUpdateService rightHolderUpdateService;
+    private final SongAutocompleteIndex songAutocompleteIndex;
+    private final RightHolderNameCache rightHolderNameCache;
 
     /**
      * 권리자 등록
@@ -49,7 +52,9 @@ public class RightHolderService {
         User user = userSignUpService.signUp(dto.getHolderName(), INITIAL_PASSWORD, Role.RIGHT_HOLDER);
 
         // 2. 권리자 생성
-        rightHolderCreateService.createRightHolder(dto, user);
+        RightHolder rightHolder = rightHolderCreateService.createRightHolder(dto, user);
+        songAutocompleteIndex.addRightHolder(dto.getHolderName());
+        rightHolderNameCache.put(dto.getHolderName(), rightHolder.getId());
     }
 
     public Page<RightHolderListResponseDto> findRightHolders(String holderTypeStr, String contractDateStr,
@@ -99,7 +104,10 @@ public class RightHolderService {
                 .orElseThrow(CannotFindRightHolderException::new);
 
         // 2. 권리자 정보 업데이트
+        String beforeHolderName = rightHolder.getHolderName();
         rightHolderUpdateService.update(rightHolder, dto);
+        songAutocompleteIndex.renameRightHolder(beforeHolderName, dto.getHolderName());
+        rightHolderNameCache.rename(rightHolderId, dto.getHolderName());
 
         // 3. username 업데이트
         userUpdateService.updateUsername(rightHolder.getUser(), dto.getHolderName());
@@ -3,6 +3,7 @@ package com.rhoonart.unearth.right_holder.service;
 import com.rhoonart.unearth.common.ResponseCode;
 import com.rhoonart.unearth.common.exception.BaseException;
 import com.rhoonart.unearth.common.util.DataAuthorityService;
+import com.rhoonart.unearth.common.util.FullTextSearchQuery;
 import com.rhoonart.unearth.crawling.repository.CrawlingDataRepository;
 import com.rhoonart.unearth.right_holder.dto.RightHolderSongListResponseDto;
 import com.rhoonart.unearth.song.entity.SongInfo;
@@ -28,9 +29,13 @@ public class RightHolderSongService {
             throw new BaseException(ResponseCode.FORBIDDEN, "권리자 데이터에 접근할 수 없습니다.");
         }
 
-        // 권리자별 노래 조회 (크롤링 데이터 필터링 포함)
-        Page<SongInfo> songPage = songInfoRepository.findByRightHolderIdWithSearchAndCrawlingFilter(
-                rightHolderId, search, hasCrawlingData, pageable);
+        // 권리자별 노래 조회 (크롤링 데이터 필터링 포함, 검색어가 너무 짧으면 LIKE 검색)
+        String fullTextQuery = FullTextSearchQuery.toBooleanQuery(search);
+        Page<SongInfo> songPage = fullTextQuery != null
+                ? songInfoRepository.searchRightHolderSongsByFullText(rightHolderId, fullTextQuery, hasCrawlingData,
+                        pageable)
+                : songInfoRepository.findByRightHolderIdWithSearchAndCrawlingFilter(
+                        rightHolderId, search, hasCrawlingData, pageable);
 
         // DTO 변환
         return songPage.map(song -> {
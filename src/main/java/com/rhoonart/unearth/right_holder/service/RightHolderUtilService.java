@@ -4,6 +4,7 @@ import com.rhoonart.unearth.common.ResponseCode;
 import com.rhoonart.unearth.common.exception.BaseException;
 import com.rhoonart.unearth.right_holder.entity.RightHolder;
 import com.rhoonart.unearth.right_holder.repository.RightHolderRepository;
+import com.rhoonart.unearth.song.service.SongAutocompleteIndex;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,8 +14,15 @@ import org.springframework.stereotype.Service;
 public class RightHolderUtilService {
 
     private final RightHolderRepository rightHolderRepository;
+    private final SongAutocompleteIndex songAutocompleteIndex;
 
+    /**
+     * 권리자 드롭다운용 이름 목록 (자동완성 색인이 만들어지기 전에는 DB 조회)
+     */
     public List<String> findAllForDropdown() {
+        if (songAutocompleteIndex.isLoaded()) {
+            return songAutocompleteIndex.getHolderNames();
+        }
         return rightHolderRepository.findAllHolderNames();
     }
 
@@ -2,11 +2,14 @@ package com.rhoonart.unearth.song.controller;
 
 import com.rhoonart.unearth.common.util.SessionUserUtil;
 import com.rhoonart.unearth.right_holder.service.RightHolderUtilService;
+import com.rhoonart.unearth.song.dto.AutocompleteSuggestionDto;
 import com.rhoonart.unearth.song.dto.SongInfoUpdateRequestDto;
 import com.rhoonart.unearth.song.dto.SongInfoWithCrawlingDto;
 import com.rhoonart.unearth.song.service.SongInfoService;
 import com.rhoonart.unearth.common.CommonResponse;
+import com.rhoonart.unearth.song.service.SongAutocompleteIndex;
 import com.rhoonart.unearth.song.service.SongUpdateService;
+import com.rhoonart.unearth.user.exception.BadRequestException;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import java.util.List;
 
 @Slf4j
 @Controller
@@ -26,6 +30,9 @@ public class SongInfoController {
     private final SongInfoService songInfoService;
     private final SongUpdateService songUpdateService;
     private final RightHolderUtilService rightHolderUtilService;
+    private final SongAutocompleteIndex songAutocompleteIndex;
+
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 20;
 
     @GetMapping("/list")
     public String listPage(
@@ -55,6 +62,33 @@ public class SongInfoController {
         return "song/list";
     }
 
+    /**
+     * 아티스트/트랙/앨범/권리자명 자동완성 (초성 검색 지원)
+     *
+     * @param query 검색어
+     * @param type  추천어 종류 (ARTIST, TITLE, ALBUM, RIGHT_HOLDER, 생략하면 전체)
+     * @param limit 최대 개수 (최대 20)
+     */
+    @GetMapping("/autocomplete")
+    @ResponseBody
+    public CommonResponse<List<AutocompleteSuggestionDto>> autocomplete(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "limit", required = false, defaultValue = "10") int limit,
+            HttpSession session) {
+        SessionUserUtil.requireAdminRole(session);
+        AutocompleteSuggestionDto.Type suggestionType = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                suggestionType = AutocompleteSuggestionDto.Type.valueOf(type);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("지원하지 않는 자동완성 종류입니다: " + type);
+            }
+        }
+        limit = Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT));
+        return CommonResponse.success(songAutocompleteIndex.search(query, suggestionType, limit));
+    }
+
     @PostMapping("/{songId}/update")
     public String update(@PathVariable String songId,
             @Valid @ModelAttribute SongInfoUpdateRequestDto dto,
@@ -5,10 +5,9 @@ import com.rhoonart.unearth.common.ResponseCode;
 import com.rhoonart.unearth.common.exception.BaseException;
 import com.rhoonart.unearth.common.util.SessionUserUtil;
 import com.rhoonart.unearth.right_holder.service.RightHolderUtilService;
-import com.rhoonart.unearth.song.dto.SongBulkRegisterResponseDto;
-import com.rhoonart.unearth.song.dto.SongBulkRegisterResultDto;
+import com.rhoonart.unearth.song.dto.SongBulkRegisterJobDto;
 import com.rhoonart.unearth.song.dto.SongInfoRegisterRequestDto;
-import com.rhoonart.unearth.song.service.SongBulkRegisterService;
+import com.rhoonart.unearth.song.service.SongBulkRegisterJobService;
 import com.rhoonart.unearth.song.service.SongInfoService;
 import com.rhoonart.unearth.song.service.SongRegisterService;
 import jakarta.servlet.http.HttpSession;
@@ -20,6 +19,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -32,7 +32,7 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class SongRegisterController {
 
-    private final SongBulkRegisterService songBulkRegisterService;
+    private final SongBulkRegisterJobService songBulkRegisterJobService;
     private final RightHolderUtilService rightHolderUtilService;
     private final SongRegisterService songRegisterService;
 
@@ -59,11 +59,14 @@ public class SongRegisterController {
     }
 
     /**
-     * CSV 파일 업로드 및 일괄 등록 처리 (AJAX용)
+     * CSV 파일 업로드 및 일괄 등록 작업 등록 (AJAX용)
+     * 등록은 백그라운드에서 진행되며, 반환된 작업 ID로 진행 상황과 결과를 조회합니다.
+     * autoCrawl이면 등록된 곡을 묶음마다 첫 크롤링 대기열에 넣습니다.
      */
     @PostMapping("/bulk-register-ajax")
     @ResponseBody
-    public CommonResponse<SongBulkRegisterResponseDto> bulkRegisterAjax(@RequestParam("file") MultipartFile file,
+    public CommonResponse<SongBulkRegisterJobDto> bulkRegisterAjax(@RequestParam("file") MultipartFile file,
+                                              @RequestParam(value = "autoCrawl", defaultValue = "false") boolean autoCrawl,
                                               HttpSession session) {
         SessionUserUtil.requireAdminRole(session);
 
@@ -77,8 +80,8 @@ public class SongRegisterController {
                 return CommonResponse.fail(ResponseCode.INVALID_INPUT, "CSV 파일만 업로드 가능합니다.");
             }
 
-            // 일괄 등록 실행
-            return CommonResponse.success(songBulkRegisterService.bulkRegisterFromCsv(file));
+            // 일괄 등록 작업 등록
+            return CommonResponse.success(songBulkRegisterJobService.submit(file, autoCrawl));
 
         } catch (Exception e) {
             log.error("❌ CSV 일괄 등록 실패", e);
@@ -99,6 +102,16 @@ public class SongRegisterController {
         }
     }
 
+    /**
+     * 일괄 등록 작업 진행 상황 조회 (완료되면 결과 포함)
+     */
+    @GetMapping("/bulk-register-jobs/{jobId}")
+    @ResponseBody
+    public CommonResponse<SongBulkRegisterJobDto> bulkRegisterJob(@PathVariable String jobId, HttpSession session) {
+        SessionUserUtil.requireAdminRole(session);
+        return CommonResponse.success(songBulkRegisterJobService.getJob(jobId));
+    }
+
     /**
      * CSV 파일 유효성 검사
      */
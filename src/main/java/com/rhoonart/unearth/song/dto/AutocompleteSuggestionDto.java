@@ -0,0 +1,14 @@
+package com.rhoonart.unearth.song.dto;
+
+/**
+ * 자동완성 추천어 DTO
+ *
+ * @param type  추천어 종류
+ * @param value 화면에 보여 줄 이름 (등록된 그대로)
+ */
+public record AutocompleteSuggestionDto(Type type, String value) {
+
+    public enum Type {
+        ARTIST, TITLE, ALBUM, RIGHT_HOLDER
+    }
+}
@@ -0,0 +1,52 @@
+package com.rhoonart.unearth.song.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.rhoonart.unearth.song.entity.SongBulkRegisterJob;
+import com.rhoonart.unearth.song.entity.SongBulkRegisterJobState;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 음원 일괄 등록 작업 상태 DTO
+ */
+@Getter
+@Builder
+public class SongBulkRegisterJobDto {
+
+    private final String jobId;
+    private final SongBulkRegisterJobState state;
+    private final String filename;
+    private final boolean autoCrawl;
+    private final int parsedRows;
+    private final int successCount;
+    private final int duplicateCount;
+    private final int failureCount;
+    private final int crawlQueuedCount;
+    // 완료된 경우에만 존재 (SongBulkRegisterResponseDto)
+    @JsonRawValue
+    private final String result;
+    private final String message;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime endedAt;
+
+    public static SongBulkRegisterJobDto from(SongBulkRegisterJob job) {
+        return SongBulkRegisterJobDto.builder()
+                .jobId(job.getId())
+                .state(job.getState())
+                .filename(job.getFilename())
+                .autoCrawl(job.isAutoCrawl())
+                .parsedRows(job.getParsedRows())
+                .successCount(job.getSuccessCount())
+                .duplicateCount(job.getDuplicateCount())
+                .failureCount(job.getFailureCount())
+                .crawlQueuedCount(job.getCrawlQueuedCount())
+                .result(job.getResultJson())
+                .message(job.getMessage())
+                .requestedAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .endedAt(job.getEndedAt())
+                .build();
+    }
+}
@@ -14,6 +14,8 @@ public class SongBulkRegisterResponseDto {
     private final int successCount;
     private final int duplicateCount;
     private final int failureCount;
+    // 목록별 최대 곡 수 (건수가 이보다 많으면 목록은 앞부분만 담김)
+    private final int sampleLimit;
 
     private final List<SongInfo> successList;
     private final List<SongInfo> duplicateList;
@@ -28,6 +30,7 @@ public class SongBulkRegisterResponseDto {
                 .successCount(result.getSuccessCount())
                 .duplicateCount(result.getDuplicateCount())
                 .failureCount(result.getFailureCount())
+                .sampleLimit(SongBulkRegisterResultDto.SAMPLE_LIMIT)
                 .successList(convertToSongInfoList(result.getSuccessList()))
                 .duplicateList(convertToSongInfoList(result.getDuplicateList()))
                 .failureList(convertToFailureInfoList(result.getFailureList()))
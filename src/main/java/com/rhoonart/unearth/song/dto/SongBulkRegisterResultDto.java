@@ -5,49 +5,85 @@ import java.util.List;
 
 /**
  * 일괄 등록 결과 DTO
+ * 건수는 모두 세고, 곡 목록은 종류별로 앞의 SAMPLE_LIMIT개만 보관한다. (파일 크기와 관계없이 메모리/결과 JSON 크기 고정)
  */
 public class SongBulkRegisterResultDto {
+
+    // 종류별로 보관할 곡 수
+    public static final int SAMPLE_LIMIT = 100;
+
     private final List<CsvSongDataDto> successList = new ArrayList<>();
     private final List<CsvSongDataDto> duplicateList = new ArrayList<>();
     private final List<SongRegistrationFailureDto> failureList = new ArrayList<>();
+    private int successCount;
+    private int duplicateCount;
+    private int failureCount;
+    // 지금까지 읽은 행 수 (등록 대기 중인 행 포함)
+    private int parsedCount;
+
+    public void addParsed() {
+        parsedCount++;
+    }
 
     public void addSuccess(CsvSongDataDto csvData) {
-        successList.add(csvData);
+        successCount++;
+        if (successList.size() < SAMPLE_LIMIT) {
+            successList.add(csvData);
+        }
     }
 
     public void addDuplicate(CsvSongDataDto csvData) {
-        duplicateList.add(csvData);
+        duplicateCount++;
+        if (duplicateList.size() < SAMPLE_LIMIT) {
+            duplicateList.add(csvData);
+        }
     }
 
     public void addFailure(CsvSongDataDto csvData, String reason) {
-        failureList.add(new SongRegistrationFailureDto(csvData, reason));
+        failureCount++;
+        if (failureList.size() < SAMPLE_LIMIT) {
+            failureList.add(new SongRegistrationFailureDto(csvData, reason));
+        }
     }
 
     public int getSuccessCount() {
-        return successList.size();
+        return successCount;
     }
 
     public int getDuplicateCount() {
-        return duplicateList.size();
+        return duplicateCount;
     }
 
     public int getFailureCount() {
-        return failureList.size();
+        return failureCount;
+    }
+
+    public int getParsedCount() {
+        return parsedCount;
     }
 
     public int getTotalCount() {
         return getSuccessCount() + getDuplicateCount() + getFailureCount();
     }
 
+    /**
+     * 성공한 곡 (앞의 SAMPLE_LIMIT개)
+     */
     public List<CsvSongDataDto> getSuccessList() {
         return new ArrayList<>(successList);
     }
 
+    /**
+     * 중복된 곡 (앞의 SAMPLE_LIMIT개)
+     */
     public List<CsvSongDataDto> getDuplicateList() {
         return new ArrayList<>(duplicateList);
     }
 
+    /**
+     * 실패한 곡 (앞의 SAMPLE_LIMIT개)
+     */
     public List<SongRegistrationFailureDto> getFailureList() {
         return new ArrayList<>(failureList);
     }
-}
\ No newline at end of file
+}
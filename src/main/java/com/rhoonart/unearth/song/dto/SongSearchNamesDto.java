@@ -0,0 +1,15 @@
+package com.rhoonart.unearth.song.dto;
+
+import com.rhoonart.unearth.song.entity.SongInfo;
+
+/**
+ * 자동완성 색인 대상인 음원 이름 DTO (아티스트, 트랙, 앨범의 국문/영문)
+ */
+public record SongSearchNamesDto(String artistKo, String artistEn, String titleKo, String titleEn, String albumKo,
+        String albumEn) {
+
+    public static SongSearchNamesDto of(SongInfo song) {
+        return new SongSearchNamesDto(song.getArtistKo(), song.getArtistEn(), song.getTitleKo(), song.getTitleEn(),
+                song.getAlbumKo(), song.getAlbumEn());
+    }
+}
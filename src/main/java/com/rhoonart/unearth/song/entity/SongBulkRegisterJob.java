@@ -0,0 +1,112 @@
+package com.rhoonart.unearth.song.entity;
+
+import com.rhoonart.unearth.global.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+/**
+ * 음원 CSV 일괄 등록 작업
+ * 업로드한 파일 하나의 처리 상태와 진행 건수, 완료 후 결과(JSON)를 기록한다.
+ */
+@Entity
+@Table(name = "song_bulk_register_job", indexes = {
+        @Index(name = "idx_song_bulk_register_job_state", columnList = "state")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongBulkRegisterJob extends BaseEntity {
+
+    @Id
+    @UuidGenerator
+    @Column(length = 36, nullable = false, updatable = false, unique = true)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private SongBulkRegisterJobState state;
+
+    @Column(name = "filename")
+    private String filename;
+
+    // 등록된 곡을 첫 크롤링 대기열에 넣을지 여부
+    @Column(name = "auto_crawl", nullable = false)
+    private boolean autoCrawl;
+
+    // 지금까지 읽은 CSV 행 수 (헤더, 빈 행 제외)
+    @Column(name = "parsed_rows", nullable = false)
+    private int parsedRows;
+
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+
+    @Column(name = "duplicate_count", nullable = false)
+    private int duplicateCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount;
+
+    // 첫 크롤링 대기열에 넣은 곡 수
+    @Column(name = "crawl_queued_count", nullable = false)
+    private int crawlQueuedCount;
+
+    // 완료된 작업의 결과 (SongBulkRegisterResponseDto JSON)
+    @Column(name = "result_json", columnDefinition = "LONGTEXT")
+    private String resultJson;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    /**
+     * 처리 시작 기록
+     */
+    public void markRunning() {
+        this.state = SongBulkRegisterJobState.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 진행 건수 기록
+     */
+    public void updateProgress(int parsedRows, int successCount, int duplicateCount, int failureCount) {
+        this.parsedRows = parsedRows;
+        this.successCount = successCount;
+        this.duplicateCount = duplicateCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * 첫 크롤링 대기열에 넣은 곡 수 누적
+     */
+    public void addCrawlQueued(int count) {
+        this.crawlQueuedCount += count;
+    }
+
+    /**
+     * 처리 종료 기록
+     */
+    public void markFinished(SongBulkRegisterJobState state, String resultJson, String message) {
+        this.state = state;
+        this.resultJson = resultJson;
+        this.message = message;
+        this.endedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,23 @@
+package com.rhoonart.unearth.song.entity;
+
+import java.util.List;
+
+/**
+ * 음원 일괄 등록 작업 상태
+ * QUEUED → RUNNING → SUCCEEDED / FAILED
+ */
+public enum SongBulkRegisterJobState {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    /**
+     * 아직 끝나지 않은 상태 목록
+     */
+    public static final List<SongBulkRegisterJobState> ACTIVE_STATES = List.of(QUEUED, RUNNING);
+
+    public boolean isActive() {
+        return ACTIVE_STATES.contains(this);
+    }
+}
@@ -15,6 +15,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import org.hibernate.annotations.UuidGenerator;
 
+import java.time.LocalDate;
+
 @Entity
 @Table(name = "song_info", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "artist_ko", "title_ko" })
@@ -57,6 +59,19 @@ public class SongInfo extends BaseEntity {
     @JoinColumn(name = "right_holder_id", nullable = false)
     private RightHolder rightHolder;
 
+    // 크롤링 데이터 행 수 (크롤러가 새 행 저장 시 증가, 페이지 전체 건수 표시용)
+    // 새 곡은 0으로 시작 (null은 컬럼 추가 이전 곡으로 보고 기동 시 백필)
+    @Builder.Default
+    @Column(name = "crawling_data_count")
+    private Long crawlingDataCount = 0L;
+
+    // 가장 최근 크롤링 기간 (기간 생성 시 갱신, 음원 목록 표시용)
+    @Column(name = "crawl_start_date")
+    private LocalDate crawlStartDate;
+
+    @Column(name = "crawl_end_date")
+    private LocalDate crawlEndDate;
+
     public void updateInfo(String artistKo, String artistEn, String albumKo, String albumEn,
             String titleKo, String titleEn, String youtubeUrl, String melonSongId,
             RightHolder rightHolder) {
@@ -70,4 +85,9 @@ public class SongInfo extends BaseEntity {
         this.melonSongId = melonSongId;
         this.rightHolder = rightHolder;
     }
+
+    public void updateCrawlWindow(LocalDate crawlStartDate, LocalDate crawlEndDate) {
+        this.crawlStartDate = crawlStartDate;
+        this.crawlEndDate = crawlEndDate;
+    }
 }
\ No newline at end of file
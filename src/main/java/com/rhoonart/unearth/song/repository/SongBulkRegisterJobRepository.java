@@ -0,0 +1,14 @@
+package com.rhoonart.unearth.song.repository;
+
+import com.rhoonart.unearth.song.entity.SongBulkRegisterJob;
+import com.rhoonart.unearth.song.entity.SongBulkRegisterJobState;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SongBulkRegisterJobRepository extends JpaRepository<SongBulkRegisterJob, String> {
+
+    List<SongBulkRegisterJob> findByStateIn(Collection<SongBulkRegisterJobState> states);
+}
@@ -1,5 +1,6 @@
 package com.rhoonart.unearth.song.repository;
 
+import com.rhoonart.unearth.song.dto.SongSearchNamesDto;
 import com.rhoonart.unearth.song.entity.SongInfo;
 import com.rhoonart.unearth.right_holder.entity.RightHolder;
 import com.rhoonart.unearth.crawling.entity.CrawlingPeriod;
@@ -7,9 +8,13 @@ import java.time.LocalDate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,6 +28,31 @@ public interface SongInfoRepository extends JpaRepository<SongInfo, String> {
     // artist_ko와 title_ko로 중복 검사
     boolean existsByArtistKoAndTitleKo(String artistKo, String titleKo);
 
+    /**
+     * 아티스트명(국문), 트랙명(국문) 목록에 해당하는 곡의 [artistKo, titleKo] 조회 (일괄 등록 중복 검사용)
+     */
+    @Query("SELECT s.artistKo, s.titleKo FROM SongInfo s WHERE s.artistKo IN :artistKos AND s.titleKo IN :titleKos")
+    List<Object[]> findArtistTitlePairs(@Param("artistKos") Collection<String> artistKos,
+            @Param("titleKos") Collection<String> titleKos);
+
+    /**
+     * 전체 음원의 이름만 조회 (자동완성 색인 생성용)
+     */
+    @Query("SELECT new com.rhoonart.unearth.song.dto.SongSearchNamesDto(s.artistKo, s.artistEn, s.titleKo, s.titleEn, s.albumKo, s.albumEn) FROM SongInfo s")
+    List<SongSearchNamesDto> findAllSearchNames();
+
+    /**
+     * 아티스트/트랙/앨범명 중 하나가 주어진 이름인 음원의 이름 조회 (자동완성 색인 생성 중 변경된 이름 재조회용)
+     */
+    @Query("""
+            SELECT new com.rhoonart.unearth.song.dto.SongSearchNamesDto(s.artistKo, s.artistEn, s.titleKo, s.titleEn, s.albumKo, s.albumEn)
+            FROM SongInfo s
+            WHERE TRIM(s.artistKo) IN :names OR TRIM(s.artistEn) IN :names
+               OR TRIM(s.titleKo) IN :names OR TRIM(s.titleEn) IN :names
+               OR TRIM(s.albumKo) IN :names OR TRIM(s.albumEn) IN :names
+            """)
+    List<SongSearchNamesDto> findSearchNamesByNames(@Param("names") Collection<String> names);
+
     // artist_ko와 title_ko로 중복 검사 (자신 제외)
     @Query("SELECT COUNT(s) > 0 FROM SongInfo s WHERE s.artistKo = :artistKo AND s.titleKo = :titleKo AND s.id != :excludeId")
     boolean existsByArtistKoAndTitleKoExcludingId(@Param("artistKo") String artistKo,
@@ -122,10 +152,159 @@ public interface SongInfoRepository extends JpaRepository<SongInfo, String> {
             @Param("currentDate") LocalDate currentDate,
             Pageable pageable);
 
+    /**
+     * FULLTEXT(ngram) 인덱스로 음원을 검색합니다. (국문/영문 아티스트, 제목, 앨범 또는 권리자명)
+     * 관련도 높은 순, 같으면 최근 등록 순이며 search는 BOOLEAN MODE 검색식입니다. (FullTextSearchQuery)
+     */
+    @Query(value = """
+                SELECT s.* FROM song_info s
+                WHERE (
+                    s.id IN (
+                        SELECT si.id FROM song_info si
+                        WHERE MATCH(si.artist_ko, si.artist_en, si.title_ko, si.title_en, si.album_ko, si.album_en)
+                            AGAINST (:search IN BOOLEAN MODE)
+                    )
+                    OR s.right_holder_id IN (
+                        SELECT rh.id FROM right_holder rh
+                        WHERE MATCH(rh.holder_name) AGAINST (:search IN BOOLEAN MODE)
+                    )
+                )
+                AND (
+                    :isCrawlingActive IS NULL
+                    OR :isCrawlingActive = false
+                    OR EXISTS (
+                        SELECT 1 FROM crawling_period cp
+                        WHERE cp.song_id = s.id
+                        AND :currentDate >= cp.start_date
+                        AND :currentDate <= cp.end_date
+                    )
+                )
+                ORDER BY MATCH(s.artist_ko, s.artist_en, s.title_ko, s.title_en, s.album_ko, s.album_en)
+                    AGAINST (:search IN BOOLEAN MODE) DESC, s.created_at DESC
+            """, countQuery = """
+                SELECT COUNT(*) FROM song_info s
+                WHERE (
+                    s.id IN (
+                        SELECT si.id FROM song_info si
+                        WHERE MATCH(si.artist_ko, si.artist_en, si.title_ko, si.title_en, si.album_ko, si.album_en)
+                            AGAINST (:search IN BOOLEAN MODE)
+                    )
+                    OR s.right_holder_id IN (
+                        SELECT rh.id FROM right_holder rh
+                        WHERE MATCH(rh.holder_name) AGAINST (:search IN BOOLEAN MODE)
+                    )
+                )
+                AND (
+                    :isCrawlingActive IS NULL
+                    OR :isCrawlingActive = false
+                    OR EXISTS (
+                        SELECT 1 FROM crawling_period cp
+                        WHERE cp.song_id = s.id
+                        AND :currentDate >= cp.start_date
+                        AND :currentDate <= cp.end_date
+                    )
+                )
+            """, nativeQuery = true)
+    Page<SongInfo> searchSongsByFullText(
+            @Param("search") String search,
+            @Param("isCrawlingActive") Boolean isCrawlingActive,
+            @Param("currentDate") LocalDate currentDate,
+            Pageable pageable);
+
+    /**
+     * 권리자의 음원을 FULLTEXT(ngram) 인덱스로 검색합니다. (관련도 높은 순)
+     */
+    @Query(value = """
+                SELECT s.* FROM song_info s
+                WHERE s.right_holder_id = :rightHolderId
+                AND MATCH(s.artist_ko, s.artist_en, s.title_ko, s.title_en, s.album_ko, s.album_en)
+                    AGAINST (:search IN BOOLEAN MODE)
+                AND (
+                    :hasCrawlingData IS NULL
+                    OR (:hasCrawlingData = true AND EXISTS (
+                        SELECT 1 FROM crawling_data cd WHERE cd.song_id = s.id
+                    ))
+                    OR (:hasCrawlingData = false AND NOT EXISTS (
+                        SELECT 1 FROM crawling_data cd WHERE cd.song_id = s.id
+                    ))
+                )
+                ORDER BY MATCH(s.artist_ko, s.artist_en, s.title_ko, s.title_en, s.album_ko, s.album_en)
+                    AGAINST (:search IN BOOLEAN MODE) DESC, s.created_at DESC
+            """, countQuery = """
+                SELECT COUNT(*) FROM song_info s
+                WHERE s.right_holder_id = :rightHolderId
+                AND MATCH(s.artist_ko, s.artist_en, s.title_ko, s.title_en, s.album_ko, s.album_en)
+                    AGAINST (:search IN BOOLEAN MODE)
+                AND (
+                    :hasCrawlingData IS NULL
+                    OR (:hasCrawlingData = true AND EXISTS (
+                        SELECT 1 FROM crawling_data cd WHERE cd.song_id = s.id
+                    ))
+                    OR (:hasCrawlingData = false AND NOT EXISTS (
+                        SELECT 1 FROM crawling_data cd WHERE cd.song_id = s.id
+                    ))
+                )
+            """, nativeQuery = true)
+    Page<SongInfo> searchRightHolderSongsByFullText(
+            @Param("rightHolderId") String rightHolderId,
+            @Param("search") String search,
+            @Param("hasCrawlingData") Boolean hasCrawlingData,
+            Pageable pageable);
+
     Optional<SongInfo> findByIdAndRightHolderId(String songId, String rightHolderId);
 
     /**
      * 특정 권리자가 해당 곡을 소유하고 있는지 확인
      */
     boolean existsByIdAndRightHolder_Id(String songId, String rightHolderId);
-}
\ No newline at end of file
+
+    /**
+     * 권리자의 모든 음원 ID를 조회합니다. (일괄 내보내기용)
+     */
+    @Query("SELECT s.id FROM SongInfo s WHERE s.rightHolder.id = :rightHolderId ORDER BY s.id")
+    List<String> findIdsByRightHolderId(@Param("rightHolderId") String rightHolderId);
+
+    /**
+     * 크롤링 데이터 행 수가 비어 있는 음원의 행 수를 채웁니다.
+     * 한 번에 limit 곡씩만 갱신합니다.
+     *
+     * @return 갱신된 음원 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+                UPDATE song_info s
+                SET s.crawling_data_count = (
+                    SELECT COUNT(*) FROM crawling_data cd WHERE cd.song_id = s.id
+                )
+                WHERE s.crawling_data_count IS NULL
+                LIMIT :limit
+            """, nativeQuery = true)
+    int backfillCrawlingDataCount(@Param("limit") int limit);
+
+    /**
+     * 현재 크롤링 기간이 비어 있는 음원에 가장 최근 크롤링 기간을 채웁니다.
+     * (기간 컬럼 추가 이전에 만들어진 기간 또는 웹 서버 밖에서 만들어진 기간 반영)
+     *
+     * @return 갱신된 음원 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+                UPDATE song_info s
+                JOIN (
+                    SELECT ranked.song_id, ranked.start_date, ranked.end_date FROM (
+                        SELECT cp.song_id, cp.start_date, cp.end_date, ROW_NUMBER() OVER (
+                            PARTITION BY cp.song_id
+                            ORDER BY cp.created_at DESC, cp.id DESC
+                        ) AS rn
+                        FROM crawling_period cp
+                    ) ranked
+                    WHERE ranked.rn = 1
+                ) latest ON latest.song_id = s.id
+                SET s.crawl_start_date = latest.start_date,
+                    s.crawl_end_date = latest.end_date
+                WHERE s.crawl_start_date IS NULL
+            """, nativeQuery = true)
+    int backfillCrawlWindow();
+}
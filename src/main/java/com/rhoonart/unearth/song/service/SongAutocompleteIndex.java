@@ -0,0 +1,419 @@
+package com.rhoonart.unearth.song.service;
+
+import com.rhoonart.unearth.common.util.HangulChoseong;
+import com.rhoonart.unearth.common.util.TransactionUtil;
+import com.rhoonart.unearth.right_holder.repository.RightHolderRepository;
+import com.rhoonart.unearth.song.dto.AutocompleteSuggestionDto;
+import com.rhoonart.unearth.song.dto.AutocompleteSuggestionDto.Type;
+import com.rhoonart.unearth.song.dto.SongSearchNamesDto;
+import com.rhoonart.unearth.song.repository.SongInfoRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아티스트/트랙/앨범/권리자명 자동완성 색인 (메모리)
+ * 이름의 각 단어 시작 위치부터의 문자열과 그 초성을 정렬된 키로 두고 접두어 범위로 찾는다.
+ * 예: "방탄소년단"은 "방탄소년단", "ㅂㅌㅅㄴㄷ"로, "Love Yourself"는 "love yourself", "yourself"로 찾을 수 있다.
+ * 시작 시 DB에서 한 번 만들고, 이후에는 음원/권리자 등록/수정이 커밋될 때 해당 이름만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongAutocompleteIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SongInfoRepository songInfoRepository;
+    private final RightHolderRepository rightHolderRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 검색 키(정규화된 이름 또는 초성) -> 추천어
+    private final NavigableMap<String, Set<AutocompleteSuggestionDto>> suggestionsByKey = new TreeMap<>();
+    // 추천어별 사용 수 (같은 아티스트/앨범을 쓰는 곡이 여러 개이므로 0이 되면 색인에서 제거)
+    private final Map<AutocompleteSuggestionDto, Integer> useCounts = new HashMap<>();
+    private final TreeSet<String> holderNames = new TreeSet<>();
+    // 색인을 만드는 동안 변경된 추천어와 권리자명 (로딩 중이 아니면 null)
+    private Set<AutocompleteSuggestionDto> touchedDuringLoad;
+    private Set<String> touchedHolderNamesDuringLoad;
+    private volatile boolean loaded;
+
+    /**
+     * DB의 전체 음원/권리자 이름으로 색인을 만듭니다.
+     * 웹 요청은 이보다 먼저 받으므로, 스냅샷을 읽는 동안 변경된 이름은 모아 두었다가
+     * 스냅샷으로 색인을 만든 뒤 그 이름들만 DB에서 다시 읽어 사용 수를 현재 값으로 맞춘다.
+     * 다시 읽는 동안에도 변경된 이름이 있으면 더 이상 없을 때까지 반복한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            startTracking();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<SongSearchNamesDto> songs = songInfoRepository.findAllSearchNames();
+            List<String> names = rightHolderRepository.findAllHolderNames();
+
+            Set<AutocompleteSuggestionDto> touched;
+            Set<String> touchedHolderNames;
+            lock.writeLock().lock();
+            try {
+                touched = touchedDuringLoad;
+                touchedHolderNames = touchedHolderNamesDuringLoad;
+                // 스냅샷 반영은 변경으로 기록하지 않는다
+                stopTracking();
+                suggestionsByKey.clear();
+                useCounts.clear();
+                holderNames.clear();
+                songs.forEach(this::addSongNames);
+                names.forEach(this::addHolderName);
+                startTracking();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            int reloaded = 0;
+            while (!touched.isEmpty() || !touchedHolderNames.isEmpty()) {
+                reloaded += touched.size();
+                List<SongSearchNamesDto> touchedSongs = findSongsByNames(touched);
+                List<String> touchedHolders = findHolderNamesByNames(touched);
+
+                lock.writeLock().lock();
+                try {
+                    applyCurrentCounts(touched, touchedHolderNames, touchedSongs, touchedHolders);
+                    touched = touchedDuringLoad;
+                    touchedHolderNames = touchedHolderNamesDuringLoad;
+                    startTracking();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            loaded = true;
+            log.info("자동완성 색인 생성 완료: 음원 {}곡, 권리자 {}명, 로딩 중 변경된 이름 {}개, 키 {}개 ({}ms)", songs.size(),
+                    names.size(), reloaded, suggestionsByKey.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                stopTracking();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 이름으로 추천어를 찾습니다.
+     * 초성이 섞인 검색어는 초성으로 바꿔서 찾습니다. (예: "ㅂㅌ", "방ㅌ")
+     *
+     * @param query 검색어
+     * @param type  추천어 종류 (null이면 전체)
+     * @param limit 최대 개수
+     */
+    public List<AutocompleteSuggestionDto> search(String query, Type type, int limit) {
+        if (query == null) {
+            return List.of();
+        }
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        if (HangulChoseong.containsChoseong(prefix)) {
+            prefix = HangulChoseong.toChoseong(prefix);
+        }
+
+        Set<AutocompleteSuggestionDto> result = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, Set<AutocompleteSuggestionDto>> entry : suggestionsByKey.tailMap(prefix, true)
+                    .entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                for (AutocompleteSuggestionDto suggestion : entry.getValue()) {
+                    if (type == null || suggestion.type() == type) {
+                        result.add(suggestion);
+                        if (result.size() >= limit) {
+                            return new ArrayList<>(result);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 색인이 만들어졌는지 확인합니다. (애플리케이션 시작 직후에는 false)
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 전체 권리자명 (이름순)
+     */
+    public List<String> getHolderNames() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(holderNames);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 등록된 음원 이름을 반영합니다. (트랜잭션 중이면 커밋 후)
+     */
+    public void addSong(SongSearchNamesDto names) {
+        TransactionUtil.runAfterCommit(() -> write(() -> addSongNames(names)));
+    }
+
+    /**
+     * 수정된 음원 이름을 반영합니다. (트랜잭션 중이면 커밋 후)
+     */
+    public void updateSong(SongSearchNamesDto before, SongSearchNamesDto after) {
+        if (before.equals(after)) {
+            return;
+        }
+        TransactionUtil.runAfterCommit(() -> write(() -> {
+            removeSongNames(before);
+            addSongNames(after);
+        }));
+    }
+
+    /**
+     * 등록된 권리자명을 반영합니다. (트랜잭션 중이면 커밋 후)
+     */
+    public void addRightHolder(String holderName) {
+        TransactionUtil.runAfterCommit(() -> write(() -> addHolderName(holderName)));
+    }
+
+    /**
+     * 변경된 권리자명을 반영합니다. (트랜잭션 중이면 커밋 후)
+     */
+    public void renameRightHolder(String before, String after) {
+        if (before.equals(after)) {
+            return;
+        }
+        TransactionUtil.runAfterCommit(() -> write(() -> {
+            remove(new AutocompleteSuggestionDto(Type.RIGHT_HOLDER, before));
+            holderNames.remove(before);
+            if (touchedHolderNamesDuringLoad != null) {
+                touchedHolderNamesDuringLoad.add(before);
+            }
+            addHolderName(after);
+        }));
+    }
+
+    private void startTracking() {
+        touchedDuringLoad = new HashSet<>();
+        touchedHolderNamesDuringLoad = new HashSet<>();
+    }
+
+    private void stopTracking() {
+        touchedDuringLoad = null;
+        touchedHolderNamesDuringLoad = null;
+    }
+
+    private List<SongSearchNamesDto> findSongsByNames(Set<AutocompleteSuggestionDto> suggestions) {
+        Set<String> values = valuesOf(suggestions, false);
+        return values.isEmpty() ? List.of() : songInfoRepository.findSearchNamesByNames(values);
+    }
+
+    private List<String> findHolderNamesByNames(Set<AutocompleteSuggestionDto> suggestions) {
+        Set<String> values = valuesOf(suggestions, true);
+        return values.isEmpty() ? List.of() : rightHolderRepository.findHolderNamesByNames(values);
+    }
+
+    private static Set<String> valuesOf(Set<AutocompleteSuggestionDto> suggestions, boolean rightHolder) {
+        Set<String> values = new HashSet<>();
+        for (AutocompleteSuggestionDto suggestion : suggestions) {
+            if ((suggestion.type() == Type.RIGHT_HOLDER) == rightHolder) {
+                values.add(suggestion.value());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 로딩 중 변경된 이름의 사용 수를 DB에서 다시 읽은 값으로 바꿉니다.
+     */
+    private void applyCurrentCounts(Set<AutocompleteSuggestionDto> touched, Set<String> touchedHolderNames,
+            List<SongSearchNamesDto> songs, List<String> holders) {
+        Map<AutocompleteSuggestionDto, Integer> counts = new HashMap<>();
+        for (SongSearchNamesDto names : songs) {
+            count(counts, touched, Type.ARTIST, names.artistKo());
+            count(counts, touched, Type.ARTIST, names.artistEn());
+            count(counts, touched, Type.TITLE, names.titleKo());
+            count(counts, touched, Type.TITLE, names.titleEn());
+            count(counts, touched, Type.ALBUM, names.albumKo());
+            count(counts, touched, Type.ALBUM, names.albumEn());
+        }
+        for (String holderName : holders) {
+            count(counts, touched, Type.RIGHT_HOLDER, holderName);
+        }
+        for (AutocompleteSuggestionDto suggestion : touched) {
+            setUseCount(suggestion, counts.getOrDefault(suggestion, 0));
+        }
+
+        for (String holderName : touchedHolderNames) {
+            if (holders.contains(holderName)) {
+                holderNames.add(holderName);
+            } else {
+                holderNames.remove(holderName);
+            }
+        }
+    }
+
+    private static void count(Map<AutocompleteSuggestionDto, Integer> counts, Set<AutocompleteSuggestionDto> touched,
+            Type type, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        AutocompleteSuggestionDto suggestion = new AutocompleteSuggestionDto(type, value.trim());
+        if (touched.contains(suggestion)) {
+            counts.merge(suggestion, 1, Integer::sum);
+        }
+    }
+
+    private void setUseCount(AutocompleteSuggestionDto suggestion, int count) {
+        Integer before = count > 0 ? useCounts.put(suggestion, count) : useCounts.remove(suggestion);
+        if (count > 0 && before == null) {
+            addKeys(suggestion);
+        } else if (count == 0 && before != null) {
+            removeKeys(suggestion);
+        }
+    }
+
+    private void addSongNames(SongSearchNamesDto names) {
+        add(Type.ARTIST, names.artistKo());
+        add(Type.ARTIST, names.artistEn());
+        add(Type.TITLE, names.titleKo());
+        add(Type.TITLE, names.titleEn());
+        add(Type.ALBUM, names.albumKo());
+        add(Type.ALBUM, names.albumEn());
+    }
+
+    private void removeSongNames(SongSearchNamesDto names) {
+        remove(new AutocompleteSuggestionDto(Type.ARTIST, names.artistKo()));
+        remove(new AutocompleteSuggestionDto(Type.ARTIST, names.artistEn()));
+        remove(new AutocompleteSuggestionDto(Type.TITLE, names.titleKo()));
+        remove(new AutocompleteSuggestionDto(Type.TITLE, names.titleEn()));
+        remove(new AutocompleteSuggestionDto(Type.ALBUM, names.albumKo()));
+        remove(new AutocompleteSuggestionDto(Type.ALBUM, names.albumEn()));
+    }
+
+    private void addHolderName(String holderName) {
+        add(Type.RIGHT_HOLDER, holderName);
+        holderNames.add(holderName);
+        if (touchedHolderNamesDuringLoad != null) {
+            touchedHolderNamesDuringLoad.add(holderName);
+        }
+    }
+
+    private void add(Type type, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        AutocompleteSuggestionDto suggestion = new AutocompleteSuggestionDto(type, value.trim());
+        if (touchedDuringLoad != null) {
+            touchedDuringLoad.add(suggestion);
+        }
+        if (useCounts.merge(suggestion, 1, Integer::sum) > 1) {
+            return;
+        }
+        addKeys(suggestion);
+    }
+
+    private void remove(AutocompleteSuggestionDto suggestion) {
+        if (suggestion.value() == null || suggestion.value().isBlank()) {
+            return;
+        }
+        suggestion = new AutocompleteSuggestionDto(suggestion.type(), suggestion.value().trim());
+        if (touchedDuringLoad != null) {
+            touchedDuringLoad.add(suggestion);
+        }
+        Integer count = useCounts.get(suggestion);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            useCounts.put(suggestion, count - 1);
+            return;
+        }
+        useCounts.remove(suggestion);
+        removeKeys(suggestion);
+    }
+
+    private void addKeys(AutocompleteSuggestionDto suggestion) {
+        for (String key : keysOf(suggestion.value())) {
+            suggestionsByKey.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(suggestion);
+        }
+    }
+
+    private void removeKeys(AutocompleteSuggestionDto suggestion) {
+        for (String key : keysOf(suggestion.value())) {
+            Set<AutocompleteSuggestionDto> suggestions = suggestionsByKey.get(key);
+            if (suggestions != null) {
+                suggestions.remove(suggestion);
+                if (suggestions.isEmpty()) {
+                    suggestionsByKey.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이름의 검색 키: 각 단어 시작 위치부터의 문자열과, 한글이 있으면 그 초성
+     */
+    private static Set<String> keysOf(String value) {
+        String normalized = normalize(value);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                String key = normalized.substring(i);
+                keys.add(key);
+                if (HangulChoseong.containsSyllable(key)) {
+                    keys.add(HangulChoseong.toChoseong(key));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.rhoonart.unearth.song.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhoonart.unearth.common.ResponseCode;
+import com.rhoonart.unearth.common.exception.BaseException;
+import com.rhoonart.unearth.crawling.service.NewSongCrawlingQueue;
+import com.rhoonart.unearth.song.dto.SongBulkRegisterJobDto;
+import com.rhoonart.unearth.song.dto.SongBulkRegisterResponseDto;
+import com.rhoonart.unearth.song.dto.SongBulkRegisterResultDto;
+import com.rhoonart.unearth.song.entity.SongBulkRegisterJob;
+import com.rhoonart.unearth.song.entity.SongBulkRegisterJobState;
+import com.rhoonart.unearth.song.exception.SongBulkRegisterException;
+import com.rhoonart.unearth.song.repository.SongBulkRegisterJobRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 음원 CSV 일괄 등록 작업 서비스
+ * 업로드 파일을 임시 파일로 옮기고 작업 ID를 바로 돌려준 뒤, 백그라운드에서 묶음 단위로 등록하면서 진행 건수를 기록한다.
+ * 작업 상태와 결과는 DB에 남기므로 화면을 닫거나 다른 서버 요청에서도 조회할 수 있다.
+ * 첫 크롤링을 선택하면 묶음이 커밋될 때마다 새로 등록된 곡을 첫 크롤링 대기열에 넣는다.
+ */
+@Slf4j
+@Service
+public class SongBulkRegisterJobService {
+
+    private final SongBulkRegisterService songBulkRegisterService;
+    private final SongBulkRegisterJobRepository songBulkRegisterJobRepository;
+    private final NewSongCrawlingQueue newSongCrawlingQueue;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public SongBulkRegisterJobService(SongBulkRegisterService songBulkRegisterService,
+            SongBulkRegisterJobRepository songBulkRegisterJobRepository,
+            NewSongCrawlingQueue newSongCrawlingQueue,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${song.bulk-register.queue-capacity:10}") int queueCapacity) {
+        this.songBulkRegisterService = songBulkRegisterService;
+        this.songBulkRegisterJobRepository = songBulkRegisterJobRepository;
+        this.newSongCrawlingQueue = newSongCrawlingQueue;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 같은 곡이 여러 파일에 있을 때 중복 검사가 엇갈리지 않도록 한 번에 하나씩 실행
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("song-bulk-register-"));
+    }
+
+    /**
+     * 일괄 등록 작업을 등록합니다.
+     *
+     * @param file      업로드된 CSV 파일
+     * @param autoCrawl true면 등록된 곡을 첫 크롤링 대기열에 넣음
+     * @return 등록된 작업 상태
+     */
+    public SongBulkRegisterJobDto submit(MultipartFile file, boolean autoCrawl) {
+        Path uploadFile = saveUploadFile(file);
+        SongBulkRegisterJob job;
+        try {
+            job = songBulkRegisterJobRepository.save(SongBulkRegisterJob.builder()
+                    .state(SongBulkRegisterJobState.QUEUED)
+                    .filename(file.getOriginalFilename())
+                    .autoCrawl(autoCrawl)
+                    .build());
+        } catch (RuntimeException e) {
+            // 작업을 기록하지 못하면 실행되지 않으므로 임시 파일을 바로 삭제
+            deleteQuietly(uploadFile);
+            throw e;
+        }
+        try {
+            executor.execute(() -> run(job.getId(), uploadFile, autoCrawl));
+        } catch (RejectedExecutionException e) {
+            songBulkRegisterJobRepository.delete(job);
+            deleteQuietly(uploadFile);
+            throw new BaseException(ResponseCode.BAD_REQUEST, "대기 중인 일괄 등록 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("음원 일괄 등록 작업 등록: jobId={}, 파일={}, 첫 크롤링={}", job.getId(), file.getOriginalFilename(),
+                autoCrawl);
+        return SongBulkRegisterJobDto.from(job);
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 저장합니다. (저장 중 실패하면 만든 임시 파일은 삭제)
+     */
+    private Path saveUploadFile(MultipartFile file) {
+        Path uploadFile = null;
+        try {
+            uploadFile = Files.createTempFile("song-bulk-register-", ".csv");
+            file.transferTo(uploadFile);
+            return uploadFile;
+        } catch (IOException e) {
+            if (uploadFile != null) {
+                deleteQuietly(uploadFile);
+            }
+            log.error("❌ CSV 업로드 파일 저장 실패", e);
+            throw new SongBulkRegisterException(ResponseCode.SERVER_ERROR, "업로드 파일을 저장할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 상태를 조회합니다. (완료된 작업은 결과 포함)
+     */
+    public SongBulkRegisterJobDto getJob(String jobId) {
+        return songBulkRegisterJobRepository.findById(jobId)
+                .map(SongBulkRegisterJobDto::from)
+                .orElseThrow(() -> new BaseException(ResponseCode.NOT_FOUND, "일괄 등록 작업을 찾을 수 없습니다."));
+    }
+
+    private void run(String jobId, Path uploadFile, boolean autoCrawl) {
+        updateJob(jobId, SongBulkRegisterJob::markRunning);
+        try (InputStream inputStream = Files.newInputStream(uploadFile)) {
+            SongBulkRegisterResultDto result = songBulkRegisterService.bulkRegisterFromCsv(inputStream,
+                    (progress, savedSongIds) -> {
+                        // 묶음은 이미 커밋되었으므로 파일 전체가 끝나기 전에 바로 첫 크롤링을 시작
+                        boolean queueCrawl = autoCrawl && !savedSongIds.isEmpty();
+                        if (queueCrawl) {
+                            newSongCrawlingQueue.enqueue(savedSongIds);
+                        }
+                        updateJob(jobId, job -> {
+                            job.updateProgress(progress.getParsedCount(), progress.getSuccessCount(),
+                                    progress.getDuplicateCount(), progress.getFailureCount());
+                            if (queueCrawl) {
+                                job.addCrawlQueued(savedSongIds.size());
+                            }
+                        });
+                    });
+            String resultJson = toJson(SongBulkRegisterResponseDto.from(result));
+            updateJob(jobId, job -> job.markFinished(SongBulkRegisterJobState.SUCCEEDED, resultJson, null));
+            log.info("음원 일괄 등록 완료: jobId={}, 성공={}, 중복={}, 실패={}", jobId, result.getSuccessCount(),
+                    result.getDuplicateCount(), result.getFailureCount());
+        } catch (BaseException e) {
+            log.warn("⚠️ 음원 일괄 등록 실패: jobId={}, {}", jobId, e.getMessage());
+            updateJob(jobId, job -> job.markFinished(SongBulkRegisterJobState.FAILED, null, e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ 음원 일괄 등록 중 오류 발생: jobId={}", jobId, e);
+            updateJob(jobId, job -> job.markFinished(SongBulkRegisterJobState.FAILED, null,
+                    "일괄 등록 중 오류가 발생했습니다: " + e.getMessage()));
+        } finally {
+            deleteQuietly(uploadFile);
+        }
+    }
+
+    private void updateJob(String jobId, Consumer<SongBulkRegisterJob> update) {
+        transactionTemplate.executeWithoutResult(status -> songBulkRegisterJobRepository.findById(jobId)
+                .ifPresent(update));
+    }
+
+    private String toJson(SongBulkRegisterResponseDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("일괄 등록 결과를 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 애플리케이션 재시작으로 끝나지 못한 작업을 실패로 정리합니다.
+     * 이미 커밋된 묶음의 곡은 등록된 상태로 남습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failInterruptedJobs() {
+        List<SongBulkRegisterJob> interruptedJobs = songBulkRegisterJobRepository
+                .findByStateIn(SongBulkRegisterJobState.ACTIVE_STATES);
+        interruptedJobs.forEach(job -> job.markFinished(SongBulkRegisterJobState.FAILED, null,
+                "애플리케이션 재시작으로 중단됨"));
+        if (!interruptedJobs.isEmpty()) {
+            log.warn("중단된 음원 일괄 등록 작업 {}건을 실패 처리했습니다.", interruptedJobs.size());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("일괄 등록 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
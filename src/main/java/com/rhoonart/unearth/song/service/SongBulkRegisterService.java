@@ -1,30 +1,40 @@
 package com.rhoonart.unearth.song.service;
 
+import com.rhoonart.unearth.common.util.CsvRecordReader;
 import com.rhoonart.unearth.common.util.EncodingDetector;
 import com.rhoonart.unearth.crawling.service.CrawlingCommandUtil;
 import com.rhoonart.unearth.song.dto.CsvSongDataDto;
-import com.rhoonart.unearth.song.dto.SongBulkRegisterResponseDto;
 import com.rhoonart.unearth.song.dto.SongBulkRegisterResultDto;
 import com.rhoonart.unearth.song.dto.SongRegistrationFailureDto;
+import com.rhoonart.unearth.song.dto.SongSearchNamesDto;
 import com.rhoonart.unearth.song.entity.SongInfo;
-import com.rhoonart.unearth.song.exception.SongBulkRegisterException;
 import com.rhoonart.unearth.song.repository.SongInfoRepository;
 import com.rhoonart.unearth.right_holder.entity.RightHolder;
 import com.rhoonart.unearth.right_holder.repository.RightHolderRepository;
+import com.rhoonart.unearth.right_holder.service.RightHolderNameCache;
 import com.rhoonart.unearth.common.exception.BaseException;
 import com.rhoonart.unearth.common.ResponseCode;
-import java.io.ByteArrayInputStream;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,154 +42,154 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SongBulkRegisterService {
 
+    // 한 트랜잭션으로 저장할 곡 수 (hibernate.jdbc.batch_size와 같게 유지)
+    private static final int CHUNK_SIZE = 500;
+    // 인코딩 감지에 사용할 파일 앞부분 크기
+    private static final int ENCODING_PREFIX_SIZE = 64 * 1024;
+    // 권리자 컬럼까지 있어야 하는 최소 컬럼 수
+    private static final int CSV_COLUMN_COUNT = 11;
+    private static final Pattern HANGUL = Pattern.compile("[ㄱ-ㅎㅏ-ㅣ가-힣]");
+
     private final SongInfoRepository songInfoRepository;
     private final RightHolderRepository rightHolderRepository;
+    private final RightHolderNameCache rightHolderNameCache;
+    private final SongAutocompleteIndex songAutocompleteIndex;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
 
     /**
-     * CSV 파일을 읽어서 곡을 일괄 등록
-     * 
-     * @param file 업로드된 CSV 파일
+     * CSV를 한 번만 읽으면서 곡을 일괄 등록
+     * 행을 모두 메모리에 올리지 않고 CHUNK_SIZE만큼 모이면 바로 등록합니다.
+     * 끝까지 유지하는 것은 파일 안 중복 검사용 키와 결과 건수, 종류별 앞부분 곡 목록(SAMPLE_LIMIT개)뿐입니다.
+     * 곡 저장은 묶음마다 커밋하고, 컬럼 수 부족, 필수 필드 누락, 없는 권리자는 해당 행만 실패로 처리합니다.
+     *
+     * @param inputStream      CSV 파일 스트림
+     * @param progressListener 묶음 등록이 끝날 때마다 진행 결과와 그 묶음에서 새로 등록된 음원 ID로 호출
+     *                         (진행 상황 기록, 첫 크롤링 대기열 등록용)
      * @return 일괄 등록 결과
      */
-    @Transactional
-    public SongBulkRegisterResponseDto bulkRegisterFromCsv(MultipartFile file) {
-
-        try {
-            // 1. CSV 파일 읽기
-            List<CsvSongDataDto> csvDataList = readCsvFile(file);
-
-            // 2. 권리자 검증 및 매핑
-            Map<String, RightHolder> rightHolderMap = validateAndMapRightHolders(csvDataList);
-
-            // 3. 중복 검사 및 등록 대상 분리
-            SongBulkRegisterResultDto result = processBulkRegistration(csvDataList, rightHolderMap);
-
-            // 결과를 DTO로 변환
-            return SongBulkRegisterResponseDto.from(result);
-
-        } catch (IOException e) {
-            log.error("❌ CSV 파일 읽기 중 오류 발생", e);
-            throw new SongBulkRegisterException(ResponseCode.INVALID_INPUT, "CSV 파일을 읽을 수 없습니다: " + e.getMessage());
-        } catch (BaseException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("❌ 일괄 등록 중 오류 발생", e);
-            throw new SongBulkRegisterException(ResponseCode.SERVER_ERROR, "일괄 등록 중 오류가 발생했습니다: " + e.getMessage());
+    public SongBulkRegisterResultDto bulkRegisterFromCsv(InputStream inputStream,
+            BiConsumer<SongBulkRegisterResultDto, List<String>> progressListener) throws IOException {
+        SongBulkRegisterResultDto result = new SongBulkRegisterResultDto();
+        Set<String> fileKeys = new HashSet<>();
+        Map<String, String> rightHolderIds = new HashMap<>();
+        List<CsvSongDataDto> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (CsvRecordReader reader = openCsv(inputStream)) {
+            reader.readRecord(); // 헤더는 건너뜀
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (isBlankRecord(record)) {
+                    continue;
+                }
+                result.addParsed();
+                CsvSongDataDto csvData = toCsvSongData(record);
+                if (record.size() < CSV_COLUMN_COUNT) {
+                    log.warn("⚠️ CSV 컬럼 수 부족: {}", record);
+                    result.addFailure(csvData, String.format("CSV 컬럼 수가 부족합니다 (%d/%d)", record.size(),
+                            CSV_COLUMN_COUNT));
+                } else if (!isValidCsvData(csvData)) {
+                    result.addFailure(csvData, "필수 필드가 누락되었습니다");
+                } else if (!fileKeys.add(songKey(csvData.getArtistKo(), csvData.getTitleKo()))) {
+                    result.addDuplicate(csvData);
+                } else {
+                    chunk.add(csvData);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        progressListener.accept(result, registerChunk(chunk, rightHolderIds, result));
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+            }
         }
+        List<String> savedSongIds = chunk.isEmpty() ? List.of() : registerChunk(chunk, rightHolderIds, result);
+        progressListener.accept(result, savedSongIds);
+        return result;
     }
 
     /**
-     * CSV 파일을 읽어서 데이터 리스트로 변환 (인코딩 fallback 및 헤더 한글 체크)
+     * CSV 읽기 준비: 앞부분(ENCODING_PREFIX_SIZE)만 보고 인코딩을 정한 뒤 스트림 전체를 한 번만 디코딩
      */
-    private List<CsvSongDataDto> readCsvFile(MultipartFile file) throws IOException {
-        List<CsvSongDataDto> dataList = new ArrayList<>();
-        byte[] fileBytes = file.getBytes();
+    private CsvRecordReader openCsv(InputStream inputStream) throws IOException {
+        BufferedInputStream bufferedStream = new BufferedInputStream(inputStream, ENCODING_PREFIX_SIZE);
+        bufferedStream.mark(ENCODING_PREFIX_SIZE);
+        byte[] prefix = bufferedStream.readNBytes(ENCODING_PREFIX_SIZE);
+        bufferedStream.reset();
+
+        Charset charset = detectCsvCharset(prefix);
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return new CsvRecordReader(new InputStreamReader(bufferedStream, decoder));
+    }
 
-        // 1. 인코딩 후보 리스트 (감지값 + 대표 한글 인코딩)
-        String detectedEncoding = EncodingDetector.detectEncoding(fileBytes);
+    /**
+     * 인코딩 후보(감지값 + 대표 한글 인코딩) 중 헤더가 오류 없이 디코딩되고 한글이 보이는 인코딩 선택
+     */
+    private Charset detectCsvCharset(byte[] prefix) {
+        String detectedEncoding = EncodingDetector.detectEncoding(prefix);
         log.info("📑 감지된 인코딩: {}", detectedEncoding);
 
-        List<String> encodingsToTry = Arrays.asList(detectedEncoding, "CP949", "MS949", "EUC-KR", "UTF-8");
-        String validEncoding = null;
-        String headerLine = null;
+        // 헤더 줄만 검사 (CR만 쓰는 파일도 있으므로 CR/LF 어느 쪽이든 줄 끝으로 봄)
+        int headerLength = 0;
+        while (headerLength < prefix.length && prefix[headerLength] != '\n' && prefix[headerLength] != '\r') {
+            headerLength++;
+        }
 
+        Set<String> encodingsToTry = new LinkedHashSet<>(List.of(detectedEncoding, "CP949", "EUC-KR", "UTF-8"));
         for (String encoding : encodingsToTry) {
-            try (BufferedReader testReader = new BufferedReader(
-                    new InputStreamReader(new ByteArrayInputStream(fileBytes), encoding))) {
-                headerLine = testReader.readLine();
-                if (headerLine != null && headerLine.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣]+.*")) {
+            try {
+                Charset charset = Charset.forName(encoding);
+                String headerLine = decodeHeader(charset, prefix, headerLength);
+                if (HANGUL.matcher(headerLine).find()) {
                     log.info("✅ 한글 정상 인식(헤더): {}", encoding);
-                    validEncoding = encoding;
-                    break;
+                    return charset;
                 }
-            } catch (Exception e) {
+            } catch (CharacterCodingException | IllegalArgumentException e) {
                 // 무시하고 다음 인코딩 시도
             }
         }
-
-        if (validEncoding == null) {
-            throw new BaseException(ResponseCode.INVALID_INPUT, "CSV 인코딩을 감지할 수 없습니다.");
-        }
-
-        // 2. 정상 인코딩으로 전체 파일 읽기
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new ByteArrayInputStream(fileBytes), validEncoding))) {
-
-            boolean isFirstLine = true;
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue; // 헤더는 건너뜀
-                }
-                if (line.trim().isEmpty())
-                    continue;
-                CsvSongDataDto csvData = parseCsvLine(line);
-                if (csvData != null) {
-                    dataList.add(csvData);
-                }
-            }
-        }
-
-        return dataList;
+        throw new BaseException(ResponseCode.INVALID_INPUT, "CSV 인코딩을 감지할 수 없습니다.");
     }
 
     /**
-     * CSV 라인을 파싱하여 CsvSongDataDto 객체로 변환
+     * 헤더 줄을 엄격하게 디코딩 (잘못된 바이트는 오류)
+     * 헤더가 앞부분보다 길면 끝 글자가 중간에 잘릴 수 있으므로 입력이 이어지는 것으로 보고 남은 바이트는 버린다.
      */
-    private CsvSongDataDto parseCsvLine(String line) {
-        try {
-            // CSV 파싱 (쉼표로 구분, 따옴표 처리)
-            String[] columns = parseCsvColumns(line);
-
-            if (columns.length < 11) {
-                log.warn("⚠️ CSV 컬럼 수 부족: {}", line);
-                return null;
-            }
-
-            return CsvSongDataDto.builder()
-                    .artistKo(cleanString(columns[1])) // 아티스트명 (국문)
-                    .artistEn(cleanString(columns[2])) // 아티스트명 (영문)
-                    .albumKo(cleanString(columns[3])) // 앨범명 (국문)
-                    .albumEn(cleanString(columns[4])) // 앨범명 (영문)
-                    .titleKo(cleanString(columns[5])) // 트랙명 (국문)
-                    .titleEn(cleanString(columns[6])) // 트랙명 (영문)
-                    .youtubeUrl(cleanString(columns[7])) // 음원 링크(유튜브 URL)
-                    .melonSongId(null) // Melon Id는 NULL로 설정 (자동 검색으로 찾을 예정)
-                    .rightHolderName(cleanString(columns[10])) // 권리자 (한 칸 당겨짐)
-                    .build();
-
-        } catch (Exception e) {
-            log.warn("⚠️ CSV 라인 파싱 실패: {}", line, e);
-            return null;
+    private String decodeHeader(Charset charset, byte[] prefix, int headerLength) throws CharacterCodingException {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer headerLine = CharBuffer.allocate((int) Math.ceil(headerLength * (double) decoder.maxCharsPerByte()));
+        CoderResult result = decoder.decode(ByteBuffer.wrap(prefix, 0, headerLength), headerLine, false);
+        if (result.isError()) {
+            result.throwException();
         }
+        return headerLine.flip().toString();
     }
 
     /**
-     * CSV 컬럼을 파싱 (쉼표로 구분, 따옴표 처리)
+     * CSV 레코드를 CsvSongDataDto 객체로 변환 (컬럼이 부족하면 있는 값만 채움)
      */
-    private String[] parseCsvColumns(String line) {
-        List<String> columns = new ArrayList<>();
-        StringBuilder currentColumn = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                columns.add(currentColumn.toString());
-                currentColumn = new StringBuilder();
-            } else {
-                currentColumn.append(c);
-            }
-        }
+    private CsvSongDataDto toCsvSongData(List<String> columns) {
+        return CsvSongDataDto.builder()
+                .artistKo(column(columns, 1)) // 아티스트명 (국문)
+                .artistEn(column(columns, 2)) // 아티스트명 (영문)
+                .albumKo(column(columns, 3)) // 앨범명 (국문)
+                .albumEn(column(columns, 4)) // 앨범명 (영문)
+                .titleKo(column(columns, 5)) // 트랙명 (국문)
+                .titleEn(column(columns, 6)) // 트랙명 (영문)
+                .youtubeUrl(column(columns, 7)) // 음원 링크(유튜브 URL)
+                .melonSongId(null) // Melon Id는 NULL로 설정 (자동 검색으로 찾을 예정)
+                .rightHolderName(column(columns, 10)) // 권리자 (한 칸 당겨짐)
+                .build();
+    }
 
-        // 마지막 컬럼 추가
-        columns.add(currentColumn.toString());
+    private String column(List<String> columns, int index) {
+        return index < columns.size() ? cleanString(columns.get(index)) : "";
+    }
 
-        return columns.toArray(new String[0]);
+    private boolean isBlankRecord(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
     }
 
     /**
@@ -192,100 +202,123 @@ public class SongBulkRegisterService {
     }
 
     /**
-     * 권리자 검증 및 매핑
+     * 묶음의 권리자 매핑 (처음 나온 권리자명만 권리자명 캐시에서 한꺼번에 찾고 결과는 파일 끝까지 재사용)
+     * 
+     * @return 권리자를 찾지 못한 행을 뺀 묶음
      */
-    private Map<String, RightHolder> validateAndMapRightHolders(List<CsvSongDataDto> csvDataList) {
-        // 고유한 권리자명 추출
-        Set<String> rightHolderNames = csvDataList.stream()
+    private List<CsvSongDataDto> resolveRightHolders(List<CsvSongDataDto> chunk,
+            Map<String, String> rightHolderIds, SongBulkRegisterResultDto result) {
+        Set<String> newNames = chunk.stream()
                 .map(CsvSongDataDto::getRightHolderName)
-                .filter(name -> !name.isEmpty())
+                .filter(name -> !rightHolderIds.containsKey(name))
                 .collect(Collectors.toSet());
-
-        // 권리자 조회
-        Map<String, RightHolder> rightHolderMap = new HashMap<>();
-        List<String> notFoundRightHolders = new ArrayList<>();
-
-        for (String rightHolderName : rightHolderNames) {
-            Optional<RightHolder> rightHolder = rightHolderRepository.findByHolderName(rightHolderName);
-            if (rightHolder.isPresent()) {
-                rightHolderMap.put(rightHolderName, rightHolder.get());
-            } else {
-                notFoundRightHolders.add(rightHolderName);
-            }
+        Map<String, String> foundIds = rightHolderNameCache.findIds(newNames);
+        for (String rightHolderName : newNames) {
+            // 없는 권리자도 null로 기억해 다시 조회하지 않음
+            rightHolderIds.put(rightHolderName, foundIds.get(rightHolderName));
         }
 
-        // 존재하지 않는 권리자가 있으면 예외 발생
-        if (!notFoundRightHolders.isEmpty()) {
-            String errorMessage;
-            if (notFoundRightHolders.size() == 1) {
-                errorMessage = String.format("다음 권리자를 찾을 수 없습니다: %s", notFoundRightHolders.get(0));
+        List<CsvSongDataDto> resolved = new ArrayList<>(chunk.size());
+        for (CsvSongDataDto csvData : chunk) {
+            if (rightHolderIds.get(csvData.getRightHolderName()) == null) {
+                result.addFailure(csvData, "권리자를 찾을 수 없습니다: " + csvData.getRightHolderName());
             } else {
-                errorMessage = String.format("다음 권리자들을 찾을 수 없습니다: %s",
-                        String.join(", ", notFoundRightHolders));
+                resolved.add(csvData);
             }
-            throw new BaseException(ResponseCode.NOT_FOUND, errorMessage);
         }
-
-        return rightHolderMap;
+        return resolved;
     }
 
     /**
-     * 중복 검사 및 일괄 등록 처리
+     * 한 묶음 등록: 기존 곡 일괄 조회 후 새 곡만 한 트랜잭션으로 저장
+     *
+     * @return 새로 등록된 음원 ID 목록
      */
-    private SongBulkRegisterResultDto processBulkRegistration(List<CsvSongDataDto> csvDataList,
-            Map<String, RightHolder> rightHolderMap) {
-        SongBulkRegisterResultDto result = new SongBulkRegisterResultDto();
+    private List<String> registerChunk(List<CsvSongDataDto> rows, Map<String, String> rightHolderIds,
+            SongBulkRegisterResultDto result) {
+        List<CsvSongDataDto> chunk = resolveRightHolders(rows, rightHolderIds, result);
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
 
-        for (CsvSongDataDto csvData : csvDataList) {
-            try {
-                // 필수 필드 검증
-                if (!isValidCsvData(csvData)) {
-                    result.addFailure(csvData, "필수 필드가 누락되었습니다");
-                    continue;
-                }
+        // artist_ko + title_ko 중복 검사 (CSV 대량등록에서는 melon_song_id가 빈 값이므로 제외)
+        Set<String> existingKeys = findExistingSongKeys(chunk);
+        List<CsvSongDataDto> newSongs = new ArrayList<>();
+        for (CsvSongDataDto csvData : chunk) {
+            if (existingKeys.contains(songKey(csvData.getArtistKo(), csvData.getTitleKo()))) {
+                result.addDuplicate(csvData);
+            } else {
+                newSongs.add(csvData);
+            }
+        }
+        if (newSongs.isEmpty()) {
+            return List.of();
+        }
 
-                // 중복 검사
-                if (isDuplicateSong(csvData)) {
-                    result.addDuplicate(csvData);
-                    continue;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> savedSongIds = new ArrayList<>();
+        try {
+            savedSongIds.addAll(transactionTemplate.execute(status -> saveSongs(newSongs, rightHolderIds)));
+            newSongs.forEach(result::addSuccess);
+        } catch (Exception e) {
+            log.warn("⚠️ 곡 묶음 등록 실패, 곡별로 다시 시도합니다: {}곡", newSongs.size(), e);
+            for (CsvSongDataDto csvData : newSongs) {
+                try {
+                    savedSongIds.addAll(transactionTemplate.execute(status -> saveSongs(List.of(csvData),
+                            rightHolderIds)));
+                    result.addSuccess(csvData);
+                } catch (Exception songException) {
+                    log.error("❌ 곡 등록 실패: {}", csvData, songException);
+                    result.addFailure(csvData, songException.getMessage());
                 }
-
-                // 곡 등록
-                SongInfo song = createSongFromCsvData(csvData, rightHolderMap.get(csvData.getRightHolderName()));
-                songInfoRepository.save(song);
-                result.addSuccess(csvData);
-
-            } catch (Exception e) {
-                log.error("❌ 곡 등록 실패: {}", csvData, e);
-                result.addFailure(csvData, e.getMessage());
             }
         }
-
-        return result;
+        return savedSongIds;
     }
 
     /**
-     * CSV 데이터 유효성 검사
+     * 곡 저장 (JDBC 배치로 INSERT 후 영속성 컨텍스트 비움)
+     *
+     * @return 저장된 음원 ID 목록
      */
-    private boolean isValidCsvData(CsvSongDataDto csvData) {
-        return csvData.getArtistKo() != null && !csvData.getArtistKo().trim().isEmpty() &&
-                csvData.getTitleKo() != null && !csvData.getTitleKo().trim().isEmpty() &&
-                csvData.getRightHolderName() != null && !csvData.getRightHolderName().trim().isEmpty();
+    private List<String> saveSongs(List<CsvSongDataDto> csvDataList, Map<String, String> rightHolderIds) {
+        List<SongInfo> songs = csvDataList.stream()
+                .map(csvData -> createSongFromCsvData(csvData,
+                        rightHolderRepository.getReferenceById(rightHolderIds.get(csvData.getRightHolderName()))))
+                .toList();
+        songInfoRepository.saveAll(songs);
+        entityManager.flush();
+        entityManager.clear();
+        songs.forEach(song -> songAutocompleteIndex.addSong(SongSearchNamesDto.of(song)));
+        return songs.stream().map(SongInfo::getId).toList();
     }
 
     /**
-     * 중복 곡 검사
+     * 묶음의 곡 중 이미 등록된 곡의 키 조회 (한 번의 쿼리)
      */
-    private boolean isDuplicateSong(CsvSongDataDto csvData) {
-        // artist_ko + title_ko 중복 검사
-        if (songInfoRepository.existsByArtistKoAndTitleKo(csvData.getArtistKo(), csvData.getTitleKo())) {
-            return true;
-        }
+    private Set<String> findExistingSongKeys(List<CsvSongDataDto> chunk) {
+        Set<String> artistKos = chunk.stream().map(CsvSongDataDto::getArtistKo).collect(Collectors.toSet());
+        Set<String> titleKos = chunk.stream().map(CsvSongDataDto::getTitleKo).collect(Collectors.toSet());
+        // 아티스트, 트랙명 각각의 IN 조건이라 다른 조합도 조회될 수 있으나 키로 비교하므로 문제없음
+        return songInfoRepository.findArtistTitlePairs(artistKos, titleKos).stream()
+                .map(pair -> songKey((String) pair[0], (String) pair[1]))
+                .collect(Collectors.toSet());
+    }
 
-        // CSV 대량등록에서는 melon_song_id가 빈 값이므로 중복 검사 제외
-        // 나중에 단일 곡 크롤링 시 자동으로 찾아서 저장됨
+    /**
+     * 중복 비교용 키 (DB 유니크 제약처럼 대소문자 구분 없이 비교)
+     */
+    private String songKey(String artistKo, String titleKo) {
+        return artistKo.trim().toLowerCase(Locale.ROOT) + "\n" + titleKo.trim().toLowerCase(Locale.ROOT);
+    }
 
-        return false;
+    /**
+     * CSV 데이터 유효성 검사
+     */
+    private boolean isValidCsvData(CsvSongDataDto csvData) {
+        return csvData.getArtistKo() != null && !csvData.getArtistKo().trim().isEmpty() &&
+                csvData.getTitleKo() != null && !csvData.getTitleKo().trim().isEmpty() &&
+                csvData.getRightHolderName() != null && !csvData.getRightHolderName().trim().isEmpty();
     }
 
     /**
@@ -302,6 +335,7 @@ public class SongBulkRegisterService {
                 .youtubeUrl(csvData.getYoutubeUrl() != null ? csvData.getYoutubeUrl() : "")
                 .melonSongId(null) // CSV 대량등록에서는 NULL로 설정 (단일 곡 크롤링 시 자동 검색)
                 .rightHolder(rightHolder)
+                .crawlingDataCount(0L)
                 .build();
     }
 }
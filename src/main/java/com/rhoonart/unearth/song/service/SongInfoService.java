@@ -11,6 +11,7 @@ import com.rhoonart.unearth.right_holder.entity.RightHolder;
 import com.rhoonart.unearth.right_holder.repository.RightHolderRepository;
 import com.rhoonart.unearth.common.exception.BaseException;
 import com.rhoonart.unearth.common.ResponseCode;
+import com.rhoonart.unearth.common.util.FullTextSearchQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -20,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,15 +36,28 @@ public class SongInfoService {
             Boolean isCrawlingActive) {
         LocalDate now = LocalDate.now();
 
-        // Repository에서 크롤링 필터 조건을 포함하여 조회
-        Page<SongInfo> songPage = songInfoRepository.searchSongsWithCrawlingFilter(search, isCrawlingActive, now,
-                pageable);
+        // Repository에서 크롤링 필터 조건을 포함하여 조회 (검색어가 너무 짧으면 LIKE 검색)
+        String fullTextQuery = FullTextSearchQuery.toBooleanQuery(search);
+        Page<SongInfo> songPage = fullTextQuery != null
+                ? songInfoRepository.searchSongsByFullText(fullTextQuery, isCrawlingActive, now, pageable)
+                : songInfoRepository.searchSongsWithCrawlingFilter(search, isCrawlingActive, now, pageable);
+
+        // 현재 크롤링 기간은 음원에 저장된 값을 사용하고, 비어 있는 음원만 최근 기간을 한 번에 조회
+        List<String> songIdsWithoutWindow = songPage.getContent().stream()
+                .filter(song -> song.getCrawlStartDate() == null)
+                .map(SongInfo::getId)
+                .toList();
+        Map<String, CrawlingPeriod> latestPeriods = songIdsWithoutWindow.isEmpty() ? Map.of()
+                : crawlingPeriodRepository.findLatestBySongIds(songIdsWithoutWindow).stream()
+                        .collect(Collectors.toMap(period -> period.getSong().getId(), period -> period));
 
         List<SongInfoWithCrawlingDto> songsWithCrawling = songPage.getContent().stream()
                 .map(song -> {
-                    Optional<CrawlingPeriod> latestCrawling = crawlingPeriodRepository.findLatestBySong(song);
-                    if (latestCrawling.isPresent()) {
-                        CrawlingPeriod period = latestCrawling.get();
+                    if (song.getCrawlStartDate() != null) {
+                        return SongInfoWithCrawlingDto.from(song, song.getCrawlStartDate(), song.getCrawlEndDate());
+                    }
+                    CrawlingPeriod period = latestPeriods.get(song.getId());
+                    if (period != null) {
                         return SongInfoWithCrawlingDto.from(song, period.getStartDate(), period.getEndDate());
                     } else {
                         return SongInfoWithCrawlingDto.from(song, null, null);
@@ -5,6 +5,7 @@ import com.rhoonart.unearth.common.exception.BaseException;
 import com.rhoonart.unearth.right_holder.entity.RightHolder;
 import com.rhoonart.unearth.right_holder.service.RightHolderInfoService;
 import com.rhoonart.unearth.song.dto.SongInfoRegisterRequestDto;
+import com.rhoonart.unearth.song.dto.SongSearchNamesDto;
 import com.rhoonart.unearth.song.entity.SongInfo;
 import com.rhoonart.unearth.song.repository.SongInfoRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ public class SongRegisterService {
 
     private final SongInfoRepository songInfoRepository;
     private final RightHolderInfoService rightHolderInfoService;
+    private final SongAutocompleteIndex songAutocompleteIndex;
 
     @Transactional
     public void register(SongInfoRegisterRequestDto dto) {
@@ -48,7 +50,9 @@ public class SongRegisterService {
                 .youtubeUrl(dto.getYoutubeUrl())
                 .melonSongId(dto.getMelonSongId())
                 .rightHolder(rightHolder)
+                .crawlingDataCount(0L)
                 .build();
         songInfoRepository.save(song);
+        songAutocompleteIndex.addSong(SongSearchNamesDto.of(song));
     }
 }
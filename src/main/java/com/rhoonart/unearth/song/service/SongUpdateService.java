@@ -6,6 +6,7 @@ import com.rhoonart.unearth.right_holder.entity.RightHolder;
 import com.rhoonart.unearth.right_holder.service.RightHolderInfoService;
 import com.rhoonart.unearth.right_holder.service.RightHolderService;
 import com.rhoonart.unearth.song.dto.SongInfoUpdateRequestDto;
+import com.rhoonart.unearth.song.dto.SongSearchNamesDto;
 import com.rhoonart.unearth.song.entity.SongInfo;
 import com.rhoonart.unearth.song.repository.SongInfoRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ public class SongUpdateService {
     private final SongInfoService songInfoService;
     private final SongInfoRepository songInfoRepository;
     private final RightHolderInfoService rightHolderInfoService;
+    private final SongAutocompleteIndex songAutocompleteIndex;
 
     @Transactional
     public void update(String songId, SongInfoUpdateRequestDto dto) {
@@ -52,6 +54,7 @@ public class SongUpdateService {
                 .orElseThrow(() -> new BaseException(ResponseCode.NOT_FOUND, "권리자를 찾을 수 없습니다."));
 
         // 5. 음원 정보 업데이트
+        SongSearchNamesDto beforeNames = SongSearchNamesDto.of(song);
         song.updateInfo(
                 dto.getArtistKo(),
                 dto.getArtistEn(),
@@ -64,6 +67,7 @@ public class SongUpdateService {
                 rightHolder);
 
         songInfoRepository.save(song);
+        songAutocompleteIndex.updateSong(beforeNames, SongSearchNamesDto.of(song));
     }
 
 }
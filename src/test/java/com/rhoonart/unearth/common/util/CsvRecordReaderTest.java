@@ -0,0 +1,82 @@
+package com.rhoonart.unearth.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTest {
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("쉼표로 필드를 나누고 빈 필드도 유지한다")
+    void readFields() throws IOException {
+        assertThat(readAll("a,b,c\n,x,\n")).containsExactly(
+                List.of("a", "b", "c"),
+                List.of("", "x", ""));
+    }
+
+    @Test
+    @DisplayName("따옴표로 감싼 필드 안의 쉼표와 줄바꿈은 값으로 읽는다")
+    void readQuotedCommaAndNewline() throws IOException {
+        assertThat(readAll("\"서울, 한국\",\"첫 줄\n둘째 줄\",끝\n")).containsExactly(
+                List.of("서울, 한국", "첫 줄\n둘째 줄", "끝"));
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 \"\"는 큰따옴표 하나로 읽는다")
+    void readEscapedQuote() throws IOException {
+        assertThat(readAll("\"say \"\"hi\"\"\",\"\"\"\"\n")).containsExactly(
+                List.of("say \"hi\"", "\""));
+    }
+
+    @Test
+    @DisplayName("필드 중간의 큰따옴표는 그대로 값으로 둔다")
+    void keepQuoteInsideUnquotedField() throws IOException {
+        assertThat(readAll("12\" single,b\n")).containsExactly(List.of("12\" single", "b"));
+    }
+
+    @Test
+    @DisplayName("CRLF와 CR 줄바꿈을 모두 레코드 끝으로 처리한다")
+    void readCrLfAndCr() throws IOException {
+        assertThat(readAll("a,b\r\nc,d\re,f\n")).containsExactly(
+                List.of("a", "b"),
+                List.of("c", "d"),
+                List.of("e", "f"));
+    }
+
+    @Test
+    @DisplayName("마지막 레코드에 줄바꿈이 없어도 읽는다")
+    void readLastRecordWithoutNewline() throws IOException {
+        assertThat(readAll("a,b\nc,\"d\"")).containsExactly(
+                List.of("a", "b"),
+                List.of("c", "d"));
+    }
+
+    @Test
+    @DisplayName("빈 입력은 레코드가 없다")
+    void readEmpty() throws IOException {
+        assertThat(readAll("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼 크기보다 긴 필드도 끊기지 않고 읽는다")
+    void readFieldLongerThanBuffer() throws IOException {
+        String longValue = "가".repeat(20000);
+        assertThat(readAll("\"" + longValue + "\",x\n")).containsExactly(List.of(longValue, "x"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.rhoonart.unearth.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FullTextSearchQueryTest {
+
+    @Test
+    @DisplayName("공백으로 나눈 단어를 모두 포함하는 구문 검색식으로 바꾼다")
+    void toBooleanQuery() {
+        assertThat(FullTextSearchQuery.toBooleanQuery("아이유")).isEqualTo("+\"아이유\"");
+        assertThat(FullTextSearchQuery.toBooleanQuery("  아이유   좋은날 ")).isEqualTo("+\"아이유\" +\"좋은날\"");
+    }
+
+    @Test
+    @DisplayName("검색어 안의 큰따옴표는 제거한다")
+    void removeDoubleQuotes() {
+        assertThat(FullTextSearchQuery.toBooleanQuery("\"love\" song")).isEqualTo("+\"love\" +\"song\"");
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 단어가 있으면 null을 반환한다")
+    void shortTermFallsBackToLike() {
+        assertThat(FullTextSearchQuery.toBooleanQuery("봄")).isNull();
+        assertThat(FullTextSearchQuery.toBooleanQuery("아이유 봄")).isNull();
+    }
+
+    @Test
+    @DisplayName("비어 있거나 큰따옴표뿐인 검색어는 null을 반환한다")
+    void blankSearch() {
+        assertThat(FullTextSearchQuery.toBooleanQuery(null)).isNull();
+        assertThat(FullTextSearchQuery.toBooleanQuery("   ")).isNull();
+        assertThat(FullTextSearchQuery.toBooleanQuery("\"\"")).isNull();
+    }
+}
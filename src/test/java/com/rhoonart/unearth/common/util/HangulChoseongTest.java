@@ -0,0 +1,57 @@
+package com.rhoonart.unearth.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HangulChoseongTest {
+
+    @Test
+    @DisplayName("한글 음절을 초성으로 바꾼다")
+    void toChoseong() {
+        assertThat(HangulChoseong.toChoseong("방탄소년단")).isEqualTo("ㅂㅌㅅㄴㄷ");
+        assertThat(HangulChoseong.toChoseong("가힣")).isEqualTo("ㄱㅎ");
+    }
+
+    @Test
+    @DisplayName("쌍자음 초성은 쌍자음 그대로 바꾼다")
+    void toChoseongWithDoubleConsonants() {
+        assertThat(HangulChoseong.toChoseong("까치")).isEqualTo("ㄲㅊ");
+        assertThat(HangulChoseong.toChoseong("떡볶이")).isEqualTo("ㄸㅂㅇ");
+        assertThat(HangulChoseong.toChoseong("빵쌀짜")).isEqualTo("ㅃㅆㅉ");
+    }
+
+    @Test
+    @DisplayName("겹받침이 있는 음절도 초성만 남긴다")
+    void toChoseongWithCompoundFinalConsonants() {
+        assertThat(HangulChoseong.toChoseong("닭값")).isEqualTo("ㄷㄱ");
+        assertThat(HangulChoseong.toChoseong("앉았다")).isEqualTo("ㅇㅇㄷ");
+    }
+
+    @Test
+    @DisplayName("한글 음절이 아닌 문자는 그대로 둔다")
+    void toChoseongKeepsNonHangul() {
+        assertThat(HangulChoseong.toChoseong("BTS 방탄 2013!")).isEqualTo("BTS ㅂㅌ 2013!");
+        assertThat(HangulChoseong.toChoseong("ㅂㅌ")).isEqualTo("ㅂㅌ");
+        assertThat(HangulChoseong.toChoseong("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 음절 포함 여부를 판별한다")
+    void containsSyllable() {
+        assertThat(HangulChoseong.containsSyllable("love 사랑")).isTrue();
+        assertThat(HangulChoseong.containsSyllable("ㅅㄹ")).isFalse();
+        assertThat(HangulChoseong.containsSyllable("love")).isFalse();
+    }
+
+    @Test
+    @DisplayName("초성 자모 포함 여부를 판별한다 (모음 자모와 음절은 제외)")
+    void containsChoseong() {
+        assertThat(HangulChoseong.containsChoseong("방ㅌ")).isTrue();
+        assertThat(HangulChoseong.containsChoseong("ㄲ")).isTrue();
+        assertThat(HangulChoseong.containsChoseong("방탄")).isFalse();
+        assertThat(HangulChoseong.containsChoseong("ㅏㅑ")).isFalse();
+        assertThat(HangulChoseong.containsChoseong("abc")).isFalse();
+    }
+}
@@ -0,0 +1,44 @@
+package com.rhoonart.unearth.crawling.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rhoonart.unearth.user.exception.BadRequestException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CrawlingDataCursorDtoTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 다시 파싱하면 같은 크롤링 날짜를 얻는다")
+    void encodeAndParse() {
+        // given
+        CrawlingDataCursorDto cursor = new CrawlingDataCursorDto(LocalDate.of(2025, 7, 1));
+
+        // when
+        String encoded = cursor.encode();
+        CrawlingDataCursorDto parsed = CrawlingDataCursorDto.parse(encoded);
+
+        // then
+        assertThat(encoded).isEqualTo("2025-07-01");
+        assertThat(parsed.getCrawlDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+    }
+
+    @Test
+    @DisplayName("비어 있는 커서는 첫 페이지를 뜻하므로 null을 반환한다")
+    void parseBlankCursor() {
+        assertThat(CrawlingDataCursorDto.parse(null)).isNull();
+        assertThat(CrawlingDataCursorDto.parse("")).isNull();
+        assertThat(CrawlingDataCursorDto.parse("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 BadRequestException을 던진다")
+    void parseInvalidCursor() {
+        assertThatThrownBy(() -> CrawlingDataCursorDto.parse("2025-13-01"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CrawlingDataCursorDto.parse("abc"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
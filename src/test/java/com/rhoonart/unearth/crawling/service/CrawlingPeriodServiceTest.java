@@ -0,0 +1,186 @@
+package com.rhoonart.unearth.crawling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.rhoonart.unearth.crawling.dto.VideoInfoDto;
+import com.rhoonart.unearth.crawling.entity.CrawlingPeriod;
+import com.rhoonart.unearth.crawling.entity.YoutubeVideoViewCount;
+import com.rhoonart.unearth.crawling.repository.CrawlingDataRepository;
+import com.rhoonart.unearth.crawling.repository.CrawlingPeriodRepository;
+import com.rhoonart.unearth.crawling.repository.YoutubeVideoViewCountRepository;
+import com.rhoonart.unearth.song.entity.SongInfo;
+import com.rhoonart.unearth.song.service.SongInfoService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlingPeriodServiceTest {
+
+    @Mock
+    private CrawlingPeriodRepository crawlingPeriodRepository;
+
+    @Mock
+    private YoutubeVideoViewCountRepository youtubeVideoViewCountRepository;
+
+    @Mock
+    private CrawlingDataRepository crawlingDataRepository;
+
+    @Mock
+    private SongInfoService songInfoService;
+
+    @Mock
+    private CrawlingSeriesCache crawlingSeriesCache;
+
+    @InjectMocks
+    private CrawlingPeriodService crawlingPeriodService;
+
+    private static CrawlingPeriod period(String id, LocalDate startDate, LocalDate endDate) {
+        return CrawlingPeriod.builder()
+                .id(id)
+                .startDate(startDate)
+                .endDate(endDate)
+                .channel("channel-" + id)
+                .youtubeTitle("title-" + id)
+                .youtubeUrl("https://youtu.be/" + id)
+                .build();
+    }
+
+    private static CrawlingPeriod period(String id, String songId, LocalDate startDate, LocalDate endDate) {
+        return CrawlingPeriod.builder()
+                .id(id)
+                .song(SongInfo.builder().id(songId).build())
+                .startDate(startDate)
+                .endDate(endDate)
+                .youtubeUrl("https://youtu.be/" + id)
+                .build();
+    }
+
+    private static YoutubeVideoViewCount viewCount(CrawlingPeriod period, LocalDate date, int viewCount) {
+        return YoutubeVideoViewCount.builder()
+                .crawlingPeriod(period)
+                .date(date)
+                .viewCount(viewCount)
+                .build();
+    }
+
+    private static List<String> urls(List<VideoInfoDto> videoInfos) {
+        return videoInfos.stream().map(VideoInfoDto::getYoutubeUrl).toList();
+    }
+
+    @Test
+    @DisplayName("겹치는 기간은 날짜별로 입력 순서대로 담고, 기간 사이의 빈 날짜는 건너뛴다")
+    void buildVideoInfosByDateWithOverlappingPeriods() {
+        // given
+        CrawlingPeriod later = period("b", LocalDate.of(2025, 7, 2), LocalDate.of(2025, 7, 3));
+        CrawlingPeriod earlier = period("a", LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 2));
+        CrawlingPeriod separate = period("c", LocalDate.of(2025, 7, 6), LocalDate.of(2025, 7, 6));
+
+        // when
+        Map<LocalDate, List<VideoInfoDto>> result = crawlingPeriodService.buildVideoInfosByDate(
+                List.of(later, earlier, separate), List.of(), null, null);
+
+        // then
+        assertThat(result).containsOnlyKeys(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 2),
+                LocalDate.of(2025, 7, 3), LocalDate.of(2025, 7, 6));
+        assertThat(urls(result.get(LocalDate.of(2025, 7, 1)))).containsExactly("https://youtu.be/a");
+        assertThat(urls(result.get(LocalDate.of(2025, 7, 2))))
+                .containsExactly("https://youtu.be/b", "https://youtu.be/a");
+        assertThat(urls(result.get(LocalDate.of(2025, 7, 3)))).containsExactly("https://youtu.be/b");
+        assertThat(urls(result.get(LocalDate.of(2025, 7, 6)))).containsExactly("https://youtu.be/c");
+    }
+
+    @Test
+    @DisplayName("조회 범위 밖의 날짜는 제외하고 시작일이나 종료일이 없는 기간은 건너뛴다")
+    void buildVideoInfosByDateWithinRange() {
+        // given
+        CrawlingPeriod period = period("a", LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 10));
+        CrawlingPeriod withoutEndDate = period("b", LocalDate.of(2025, 7, 1), null);
+        CrawlingPeriod outOfRange = period("c", LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 2));
+
+        // when
+        Map<LocalDate, List<VideoInfoDto>> result = crawlingPeriodService.buildVideoInfosByDate(
+                List.of(period, withoutEndDate, outOfRange), List.of(),
+                LocalDate.of(2025, 7, 4), LocalDate.of(2025, 7, 5));
+
+        // then
+        assertThat(result).containsOnlyKeys(LocalDate.of(2025, 7, 4), LocalDate.of(2025, 7, 5));
+        assertThat(urls(result.get(LocalDate.of(2025, 7, 4)))).containsExactly("https://youtu.be/a");
+    }
+
+    @Test
+    @DisplayName("날짜별 조회수를 채우고, 같은 날짜가 중복되면 먼저 나온 값을 쓰며 없는 날은 null로 둔다")
+    void buildVideoInfosByDateWithViewCounts() {
+        // given
+        CrawlingPeriod period = period("a", LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 3));
+        CrawlingPeriod otherPeriod = period("z", LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 3));
+        List<YoutubeVideoViewCount> viewCounts = List.of(
+                viewCount(period, LocalDate.of(2025, 7, 1), 100),
+                viewCount(period, LocalDate.of(2025, 7, 1), 999),
+                viewCount(period, LocalDate.of(2025, 7, 3), -999),
+                viewCount(otherPeriod, LocalDate.of(2025, 7, 2), 500));
+
+        // when
+        Map<LocalDate, List<VideoInfoDto>> result = crawlingPeriodService.buildVideoInfosByDate(
+                List.of(period), viewCounts, null, null);
+
+        // then
+        assertThat(result.get(LocalDate.of(2025, 7, 1))).singleElement()
+                .extracting(VideoInfoDto::getViewCount).isEqualTo(100);
+        assertThat(result.get(LocalDate.of(2025, 7, 2))).singleElement()
+                .extracting(VideoInfoDto::getViewCount).isNull();
+        assertThat(result.get(LocalDate.of(2025, 7, 3))).singleElement()
+                .extracting(VideoInfoDto::getViewCount).isEqualTo(-999);
+    }
+
+    @Test
+    @DisplayName("기간이 없으면 빈 결과를 반환한다")
+    void buildVideoInfosByDateWithoutPeriods() {
+        // when
+        Map<LocalDate, List<VideoInfoDto>> result = crawlingPeriodService.buildVideoInfosByDate(
+                List.of(), List.of(), LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 2));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 음원을 일괄 조회하면 음원마다 자기 기간의 조회수만 담는다")
+    void getVideoInfosForSongs() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 7, 1);
+        LocalDate endDate = LocalDate.of(2025, 7, 2);
+        CrawlingPeriod first = period("a", "song-1", startDate, endDate);
+        CrawlingPeriod second = period("b", "song-2", startDate, endDate);
+        List<String> songIds = List.of("song-1", "song-2");
+        given(crawlingPeriodRepository.findBySongIdsAndDateRange(songIds, startDate, endDate))
+                .willReturn(List.of(first, second));
+        given(youtubeVideoViewCountRepository.findByCrawlingPeriodIdsAndDateRange(List.of("a", "b"), startDate,
+                endDate)).willReturn(List.of(
+                        viewCount(first, startDate, 100),
+                        viewCount(second, startDate, 200),
+                        viewCount(second, endDate, 300)));
+
+        // when
+        Map<String, Map<LocalDate, List<VideoInfoDto>>> result = crawlingPeriodService.getVideoInfosForSongs(
+                songIds, startDate, endDate);
+
+        // then
+        assertThat(result).containsOnlyKeys("song-1", "song-2");
+        assertThat(result.get("song-1").get(startDate)).singleElement()
+                .extracting(VideoInfoDto::getViewCount).isEqualTo(100);
+        assertThat(result.get("song-1").get(endDate)).singleElement()
+                .extracting(VideoInfoDto::getViewCount).isNull();
+        assertThat(result.get("song-2").get(startDate)).singleElement()
+                .extracting(VideoInfoDto::getViewCount).isEqualTo(200);
+        assertThat(result.get("song-2").get(endDate)).singleElement()
+                .extracting(VideoInfoDto::getViewCount).isEqualTo(300);
+    }
+}
@@ -0,0 +1,102 @@
+package com.rhoonart.unearth.crawling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingShardDto;
+import com.rhoonart.unearth.crawling.repository.CrawlingPeriodRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlingShardServiceTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 7, 1);
+
+    @Mock
+    private CrawlingExecuteService crawlingExecuteService;
+
+    @Mock
+    private CrawlingRunService crawlingRunService;
+
+    @Mock
+    private CrawlingPeriodRepository crawlingPeriodRepository;
+
+    private CrawlingShardService createService(int partitions, boolean splitByPlatform) {
+        return new CrawlingShardService(crawlingExecuteService, crawlingRunService, crawlingPeriodRepository,
+                partitions, splitByPlatform, 2);
+    }
+
+    @Test
+    @DisplayName("활성 곡을 묶음 수에 맞춰 고르게 나누고 첫 묶음만 조회수를 수집한다")
+    void planShardsByPartition() {
+        // given
+        given(crawlingPeriodRepository.findActiveSongIdsOnDate(TARGET_DATE))
+                .willReturn(List.of("s1", "s2", "s3", "s4", "s5"));
+
+        // when
+        List<CrawlingShardDto> shards = createService(2, false).planShards(TARGET_DATE);
+
+        // then
+        assertThat(shards).hasSize(2);
+        assertThat(shards.get(0).songIds()).containsExactly("s1", "s2", "s3");
+        assertThat(shards.get(1).songIds()).containsExactly("s4", "s5");
+        assertThat(shards).extracting(CrawlingShardDto::partitionIndex).containsExactly(1, 2);
+        assertThat(shards).extracting(CrawlingShardDto::partitionCount).containsOnly(2);
+        assertThat(shards).extracting(CrawlingShardDto::platform).containsOnlyNulls();
+        assertThat(shards).extracting(CrawlingShardDto::runViewcount).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("곡 수가 묶음 수보다 적으면 빈 묶음을 만들지 않는다")
+    void planShardsWithFewerSongsThanPartitions() {
+        // given
+        given(crawlingPeriodRepository.findActiveSongIdsOnDate(TARGET_DATE))
+                .willReturn(List.of("s1", "s2"));
+
+        // when
+        List<CrawlingShardDto> shards = createService(4, false).planShards(TARGET_DATE);
+
+        // then
+        assertThat(shards).hasSize(2);
+        assertThat(shards).extracting(CrawlingShardDto::partitionCount).containsOnly(2);
+        assertThat(shards).allSatisfy(shard -> assertThat(shard.songIds()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("플랫폼별 분할이면 묶음마다 플랫폼 수만큼 작업을 만든다")
+    void planShardsByPlatform() {
+        // given
+        given(crawlingPeriodRepository.findActiveSongIdsOnDate(TARGET_DATE))
+                .willReturn(List.of("s1", "s2", "s3", "s4"));
+
+        // when
+        List<CrawlingShardDto> shards = createService(2, true).planShards(TARGET_DATE);
+
+        // then
+        assertThat(shards).hasSize(8);
+        assertThat(shards.subList(0, 4)).extracting(CrawlingShardDto::platform)
+                .containsExactly("melon", "genie", "youtube", "youtube_music");
+        assertThat(shards.subList(0, 4)).allSatisfy(shard -> assertThat(shard.songIds()).containsExactly("s1", "s2"));
+        assertThat(shards.subList(4, 8)).allSatisfy(shard -> assertThat(shard.songIds()).containsExactly("s3", "s4"));
+        assertThat(shards).filteredOn(CrawlingShardDto::runViewcount).containsExactly(shards.get(0));
+    }
+
+    @Test
+    @DisplayName("활성 곡이 없으면 작업을 만들지 않는다")
+    void planShardsWithoutActiveSongs() {
+        // given
+        given(crawlingPeriodRepository.findActiveSongIdsOnDate(TARGET_DATE)).willReturn(List.of());
+
+        // when
+        List<CrawlingShardDto> shards = createService(2, true).planShards(TARGET_DATE);
+
+        // then
+        assertThat(shards).isEmpty();
+    }
+}
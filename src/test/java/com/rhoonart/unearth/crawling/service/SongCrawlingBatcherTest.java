@@ -0,0 +1,122 @@
+package com.rhoonart.unearth.crawling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rhoonart.unearth.crawling.dto.CrawlingProcessResultDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SongCrawlingBatcherTest {
+
+    private final List<List<String>> launchedBatches = new ArrayList<>();
+    private final CompletableFuture<CrawlingProcessResultDto> processResult = new CompletableFuture<>();
+    private SongCrawlingBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    private void createBatcher(int maxSize) {
+        // 시간 경과로 실행되지 않도록 window를 길게 잡는다
+        batcher = new SongCrawlingBatcher(songIds -> {
+            launchedBatches.add(songIds);
+            return processResult;
+        }, Duration.ofHours(1), maxSize);
+    }
+
+    @Test
+    @DisplayName("maxSize에 도달하면 모인 곡을 한 번에 실행한다")
+    void launchWhenMaxSizeReached() {
+        // given
+        createBatcher(3);
+
+        // when
+        batcher.add("song-1");
+        batcher.add("song-2");
+        assertThat(launchedBatches).isEmpty();
+        batcher.add("song-3");
+
+        // then
+        assertThat(launchedBatches).containsExactly(List.of("song-1", "song-2", "song-3"));
+    }
+
+    @Test
+    @DisplayName("대기 중인 곡을 다시 추가하면 하나로 합치고 같은 결과를 돌려준다")
+    void mergeDuplicateSongIds() {
+        // given
+        createBatcher(10);
+
+        // when
+        CompletableFuture<CrawlingProcessResultDto> first = batcher.add("song-1");
+        CompletableFuture<CrawlingProcessResultDto> second = batcher.add("song-1");
+        batcher.flush();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(launchedBatches).containsExactly(List.of("song-1"));
+    }
+
+    @Test
+    @DisplayName("flush하면 대기 중인 곡을 즉시 실행하고 프로세스 결과로 완료한다")
+    void flushLaunchesPendingSongs() {
+        // given
+        createBatcher(10);
+        CompletableFuture<CrawlingProcessResultDto> first = batcher.add("song-1");
+        CompletableFuture<CrawlingProcessResultDto> second = batcher.add("song-2");
+        CrawlingProcessResultDto result = new CrawlingProcessResultDto("batch", 0, false,
+                LocalDateTime.now(), LocalDateTime.now());
+
+        // when
+        batcher.flush();
+        processResult.complete(result);
+
+        // then
+        assertThat(launchedBatches).containsExactly(List.of("song-1", "song-2"));
+        assertThat(first.join()).isSameAs(result);
+        assertThat(second.join()).isSameAs(result);
+    }
+
+    @Test
+    @DisplayName("대기 중인 곡이 없으면 flush해도 실행하지 않는다")
+    void flushWithoutPendingSongs() {
+        // given
+        createBatcher(10);
+
+        // when
+        batcher.flush();
+
+        // then
+        assertThat(launchedBatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 등록이 실패하면 포함된 곡의 결과를 모두 예외로 완료한다")
+    void completeExceptionallyWhenLaunchFails() {
+        // given
+        IllegalStateException error = new IllegalStateException("queue full");
+        batcher = new SongCrawlingBatcher(songIds -> {
+            throw error;
+        }, Duration.ofHours(1), 10);
+        CompletableFuture<CrawlingProcessResultDto> first = batcher.add("song-1");
+        CompletableFuture<CrawlingProcessResultDto> second = batcher.add("song-2");
+
+        // when
+        batcher.flush();
+
+        // then
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasCause(error);
+    }
+}
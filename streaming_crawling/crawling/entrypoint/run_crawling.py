@@ -6,7 +6,7 @@ import os
 import django
 import logging
 from datetime import datetime, date
-from typing import Optional, Dict, Any
+from typing import Optional, Dict, Any, List
 
 
 class CrawlingApplication:
@@ -32,8 +32,14 @@ class CrawlingApplication:
             # 날짜 파싱
             target_date = self.command_parser.parse_date(args.date)
             
-            # 크롤링 실행
-            result = self.crawling_executor.execute_full_crawling(target_date)
+            # 크롤링 실행 (song_ids/platforms가 있으면 분할 실행)
+            result = self.crawling_executor.execute_full_crawling(
+                target_date,
+                song_ids=self.command_parser.parse_song_ids(args),
+                platforms=args.platforms,
+                run_viewcount=not args.skip_viewcount,
+                resume=args.resume
+            )
             
             # 종료 코드 설정
             ExitCodeManager.exit_with_result(result)
@@ -52,6 +58,7 @@ os.environ.setdefault('DJANGO_SETTINGS_MODULE', 'config.settings')
 django.setup()
 
 from crawling.managers.crawling_manager import run_crawling
+from crawling.utils.constants import Platforms
 
 
 class DjangoInitializer:
@@ -93,12 +100,29 @@ class CommandLineParser:
         import argparse
         parser = argparse.ArgumentParser(description='크롤링 프로세스 실행')
         parser.add_argument('--date', type=str, help='크롤링 대상 날짜 (YYYY-MM-DD 형식)')
+        song_group = parser.add_mutually_exclusive_group()
+        song_group.add_argument('--song_ids', nargs='+', help='크롤링할 곡 ID 목록 (분할 실행용, 생략시 활성 곡 전체)')
+        song_group.add_argument('--song_ids_file',
+                                help='크롤링할 곡 ID 목록 파일 (한 줄에 하나, 명령행 길이 제한을 피하기 위한 분할 실행용)')
+        parser.add_argument('--platforms', nargs='+', choices=Platforms.ALL_PLATFORMS,
+                            help='크롤링할 플랫폼 목록 (분할 실행용, 생략시 전체)')
+        parser.add_argument('--skip_viewcount', action='store_true',
+                            help='YouTube 조회수 수집(후처리) 생략 (다른 분할 실행에서 처리할 때 사용)')
+        parser.add_argument('--resume', action='store_true',
+                            help='같은 날짜에 이미 저장된 곡/플랫폼은 건너뛰고 남은 작업만 크롤링')
         return parser
     
     def parse_arguments(self):
         """명령행 인수를 파싱합니다."""
         return self.parser.parse_args()
     
+    def parse_song_ids(self, args) -> Optional[List[str]]:
+        """곡 ID 목록을 명령행 또는 파일에서 읽습니다."""
+        if not args.song_ids_file:
+            return args.song_ids
+        with open(args.song_ids_file, encoding='utf-8') as song_ids_file:
+            return [line.strip() for line in song_ids_file if line.strip()]
+    
     def parse_date(self, date_str: Optional[str]) -> Optional[date]:
         """날짜 문자열을 파싱합니다."""
         if not date_str:
@@ -116,21 +140,29 @@ class CrawlingExecutor:
     def __init__(self, logger):
         self.logger = logger
     
-    def execute_full_crawling(self, target_date: Optional[date] = None) -> Dict[str, Any]:
+    def execute_full_crawling(self, target_date: Optional[date] = None, song_ids: Optional[List[str]] = None,
+                              platforms: Optional[List[str]] = None, run_viewcount: bool = True,
+                              resume: bool = False) -> Dict[str, Any]:
         """
         전체 크롤링 프로세스를 실행합니다.
         
         Args:
             target_date: 크롤링 대상 날짜. None이면 오늘 날짜
+            song_ids: 크롤링할 곡 ID 목록. None이면 활성 곡 전체
+            platforms: 크롤링할 플랫폼 목록. None이면 전체
+            run_viewcount: YouTube 조회수 수집 실행 여부
+            resume: 이미 저장된 곡/플랫폼을 건너뛸지 여부
             
         Returns:
             크롤링 결과 딕셔너리
         """
         try:
-            result = run_crawling(target_date)
+            result = run_crawling(target_date, song_ids=song_ids, platforms=platforms,
+                                  run_viewcount=run_viewcount, resume=resume)
             
             if result.get('status') == 'success' and 'log_summary' in result:
-                return result['log_summary']
+                # log_summary에는 status가 없으므로 종료 코드 판단을 위해 함께 전달
+                return {**result['log_summary'], 'status': 'success'}
             else:
                 return result
                 
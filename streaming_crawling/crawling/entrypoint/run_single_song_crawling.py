@@ -15,19 +15,20 @@ django.setup()
 
 from crawling.models import SongInfo
 from crawling.utils.constants import Platforms
-from crawling.managers.single_crawling_manager import run_single_song_crawling
+from crawling.managers.single_crawling_manager import run_songs_crawling
+from crawling.utils import progress_reporter
 
-def setup_logging(song_id):
+def setup_logging(log_key):
     """
     단일 곡 크롤링을 위한 로깅 설정
-    song_id를 파일명에 포함하여 각 곡별로 로그 파일을 구분
+    song_id(여러 곡이면 첫 곡 id와 곡 수)를 파일명에 포함하여 실행별로 로그 파일을 구분
     """
     logging.basicConfig(
         level=logging.INFO,
         format='%(asctime)s - %(name)s - %(levelname)s - %(message)s',
         handlers=[
             logging.FileHandler(
-                f'logs/single_crawling_{datetime.now().strftime("%Y%m%d_%H%M%S")}_{song_id}.log',
+                f'logs/single_crawling_{datetime.now().strftime("%Y%m%d_%H%M%S")}_{log_key}.log',
                 encoding='utf-8'
             ),
             logging.StreamHandler()
@@ -36,52 +37,69 @@ def setup_logging(song_id):
 
 logger = logging.getLogger(__name__)
 
+def song_to_dict(song):
+    """곡 정보 dict 생성 (플랫폼별 정보 포함)"""
+    return {
+        'song_id': song.id,
+        'title_ko': song.title_ko,
+        'artist_ko': song.artist_ko,
+        'title_en': song.title_en,
+        'artist_en': song.artist_en,
+        'youtube_url': song.youtube_url,
+        'melon_song_id': song.melon_song_id,
+    }
+
 def main():
     parser = argparse.ArgumentParser(description='단일 곡 크롤링 실행')
-    parser.add_argument('--song_id', required=True, help='크롤링할 곡의 SongInfo id')
+    song_group = parser.add_mutually_exclusive_group(required=True)
+    song_group.add_argument('--song_id', help='크롤링할 곡의 SongInfo id')
+    song_group.add_argument('--song_ids', nargs='+', help='한 번에 크롤링할 곡들의 SongInfo id 목록')
     parser.add_argument('--platform', choices=Platforms.ALL_PLATFORMS, help='특정 플랫폼만 크롤링(생략시 전체)')
     parser.add_argument('--save_csv', action='store_true', default=True, help='CSV 저장 여부 (기본값: 저장)')
     parser.add_argument('--save_db', action='store_true', default=True, help='DB 저장 여부 (기본값: 저장)')
     args = parser.parse_args()
 
+    # 중복 id 제거 (요청 순서 유지)
+    song_ids = list(dict.fromkeys(args.song_ids or [args.song_id]))
+
     # song_id로 로깅 설정
-    setup_logging(args.song_id)
+    log_key = song_ids[0] if len(song_ids) == 1 else f"{song_ids[0]}_외{len(song_ids) - 1}곡"
+    setup_logging(log_key)
 
-    logger.info(f"🚀 단일 곡 크롤링 시작: song_id={args.song_id}, platform={args.platform or 'all'}, save_csv={args.save_csv}, save_db={args.save_db}")
+    logger.info(f"🚀 단일 곡 크롤링 시작: {len(song_ids)}곡, platform={args.platform or 'all'}, save_csv={args.save_csv}, save_db={args.save_db}")
 
-    # 곡 정보 조회
-    try:
-        song = SongInfo.objects.get(id=args.song_id)
-    except SongInfo.DoesNotExist:
-        logger.error(f"❌ SongInfo id={args.song_id}를 찾을 수 없습니다.")
-        sys.exit(1)
+    # 곡 정보 일괄 조회 (Django 초기화와 곡 조회는 한 번만, 플랫폼 드라이버는 플랫폼마다 하나로 묶음 전체를 크롤링)
+    songs_by_id = {song.id: song for song in SongInfo.objects.filter(id__in=song_ids)}
 
-    # 곡 정보 dict 생성 (플랫폼별 정보 포함)
-    song_dict = {
-        'song_id': song.id,
-        'title_ko': song.title_ko,
-        'artist_ko': song.artist_ko,
-        'title_en': song.title_en,
-        'artist_en': song.artist_en,
-        'youtube_url': song.youtube_url,
-        'melon_song_id': song.melon_song_id,
-    }
+    progress_reporter.emit('run_start', total_songs=len(song_ids), platforms=[args.platform] if args.platform else Platforms.ALL_PLATFORMS)
+
+    failed_song_ids = [song_id for song_id in song_ids if song_id not in songs_by_id]
+    for song_id in failed_song_ids:
+        logger.error(f"❌ SongInfo id={song_id}를 찾을 수 없습니다.")
+
+    song_dicts = [song_to_dict(songs_by_id[song_id]) for song_id in song_ids if song_id in songs_by_id]
+    if song_dicts:
+        # single_crawling_manager를 사용하여 크롤링 실행
+        try:
+            run_songs_crawling(
+                song_dicts=song_dicts,
+                save_csv=args.save_csv,
+                save_db=args.save_db,
+                platform=args.platform
+            )
+            # 결과 요약은 single_crawling_manager에서 이미 출력됨
+        except Exception as e:
+            logger.error(f"❌ 크롤링 중 오류 발생: {str(e)}", exc_info=True)
+            failed_song_ids.extend(song_dict['song_id'] for song_dict in song_dicts)
 
-    # single_crawling_manager를 사용하여 크롤링 실행
-    try:
-        result = run_single_song_crawling(
-            song_dict=song_dict,
-            save_csv=args.save_csv,
-            save_db=args.save_db,
-            platform=args.platform
-        )
-        
-        # 결과 요약은 single_crawling_manager에서 이미 출력됨
-        logger.info("✅ 단일 곡 크롤링 프로세스 완료")
-        
-    except Exception as e:
-        logger.error(f"❌ 크롤링 중 오류 발생: {str(e)}")
+    if failed_song_ids:
+        logger.error(f"❌ 크롤링 실패 곡: {', '.join(failed_song_ids)}")
+        progress_reporter.emit('run_end', status='error', failed_song_ids=failed_song_ids)
         sys.exit(1)
 
+    progress_reporter.emit('run_end', status='success')
+
+    logger.info("✅ 단일 곡 크롤링 프로세스 완료")
+
 if __name__ == '__main__':
     main() 
\ No newline at end of file
@@ -9,6 +9,9 @@ from crawling.repository.song_service import SongService
 from crawling.utils.batch_crawling_logger import BatchCrawlingLogger
 from crawling.repository.failure_service import FailureService
 from crawling.repository.db_writer import save_all_platforms_for_songs
+from crawling.repository.checkpoint_service import CheckpointService
+from crawling.utils.constants import CommonSettings
+from crawling.utils import progress_reporter
 
 # 플랫폼 전략들 import (새로운 구조)
 from crawling.service.genie import GenieCrawlingStrategy
@@ -47,21 +50,35 @@ class CrawlingManager:
             'melon': MelonCrawlingStrategy()
         }
     
-    def run_full_crawling(self, target_date: Optional[date] = None) -> Dict[str, Any]:
+    def run_full_crawling(self, target_date: Optional[date] = None, song_ids: Optional[List[str]] = None,
+                          platforms: Optional[List[str]] = None, run_viewcount: bool = True,
+                          resume: bool = False) -> Dict[str, Any]:
         """
         전체 크롤링 프로세스를 실행합니다.
         
         Args:
             target_date: 크롤링 대상 날짜. None이면 오늘 날짜
+            song_ids: 크롤링할 곡 ID 목록 (분할 실행용). None이면 활성 곡 전체
+            platforms: 크롤링할 플랫폼 목록 (분할 실행용). None이면 전체 플랫폼
+            run_viewcount: YouTube 조회수 수집(후처리) 실행 여부
+            resume: True면 기준 날짜에 이미 저장된 (곡, 플랫폼)은 건너뛰고 남은 작업만 크롤링
             
         Returns:
             크롤링 결과 요약
         """
         try:
             logger.info("🚀 전체 크롤링 프로세스 시작")
+            # 기준 날짜는 시작 시 한 번만 정함 (자정을 넘겨도 같은 날짜로 저장/체크포인트 조회)
+            target_date = target_date or date.today()
             
             # 1단계: 크롤링 대상 노래 조회
             active_songs = SongService.get_active_songs(target_date)
+            if song_ids:
+                # 분할 실행: 지정된 곡 중 활성 곡만 크롤링
+                requested_ids = set(song_ids)
+                active_songs = [song for song in active_songs if song.id in requested_ids]
+                logger.info(f"🧩 분할 실행: 요청 {len(requested_ids)}곡 중 활성 {len(active_songs)}곡")
+            target_platforms = platforms or list(self.platform_strategies.keys())
             
             if not active_songs:
                 logger.warning("⚠️ 크롤링 대상 노래가 없습니다.")
@@ -70,33 +87,31 @@ class CrawlingManager:
             logger.info(f"📋 크롤링 대상: {len(active_songs)}개 곡")
             
             # 로그 라이터 시작
-            self.log_writer.start_crawling(target_date or date.today(), len(active_songs))
+            self.log_writer.start_crawling(target_date, len(active_songs))
+            progress_reporter.emit('run_start', total_songs=len(active_songs), platforms=target_platforms)
+            
+            # 2~3단계: 플랫폼별 크롤링 실행 및 DB 저장 (일정 곡 수마다 바로 저장)
+            completed_platforms = CheckpointService.get_completed_platforms(
+                [song.id for song in active_songs], target_date
+            ) if resume else {}
             
-            # 2단계: 플랫폼별 크롤링 실행
             crawling_results = {}
+            db_results = {}
             
             for platform_name, strategy in self.platform_strategies.items():
-                platform_songs = SongService.get_songs_by_platform(active_songs, platform_name)
-                # SongInfo 객체 리스트를 dict 리스트로 변환
-                platform_songs_dict = [songinfo_to_dict(song) for song in platform_songs]
+                if platform_name not in target_platforms:
+                    continue
                 
-                if platform_songs_dict:
-                    logger.info(f"🎯 {platform_name} 크롤링 시작: {len(platform_songs_dict)}개 곡")
-                    results = strategy.crawl_platform(platform_songs_dict, self.log_writer)
-                    crawling_results[platform_name] = results
-                else:
-                    logger.info(f"⚠️ {platform_name} 크롤링 대상 곡이 없습니다.")
-            
-            # 3단계: DB 저장
-            logger.info("💾 크롤링 결과를 데이터베이스에 저장 중...")
-            all_song_ids = [song.id for song in active_songs]
-            db_results = save_all_platforms_for_songs(
-                song_ids=all_song_ids,
-                genie_results=crawling_results.get('genie'),
-                youtube_music_results=crawling_results.get('youtube_music'),
-                youtube_results=crawling_results.get('youtube'),
-                melon_results=crawling_results.get('melon')
-            )
+                # 재시작이면 이미 저장된 곡은 건너뜀
+                pending_songs = [song for song in active_songs if platform_name not in completed_platforms.get(song.id, set())]
+                if resume:
+                    logger.info(f"⏩ {platform_name} 재시작: 완료 {len(active_songs) - len(pending_songs)}곡 건너뜀, 남은 곡 {len(pending_songs)}곡")
+                if not pending_songs:
+                    continue
+                
+                crawling_results[platform_name], db_results[platform_name] = self._crawl_and_save_platform(
+                    platform_name, strategy, pending_songs, target_date
+                )
             
             # 4단계: 실패 처리
             logger.info("🔍 실패 처리 중...")
@@ -107,28 +122,96 @@ class CrawlingManager:
             self.log_writer.end_crawling()
             
             # YouTube 조회수 수집 (후처리)
-            logger.info("🎥 YouTube 조회수 수집 시작 (후처리)")
-            try:
-                update_youtube_viewcounts_for_period(
-                    start_date=target_date or date.today(),
-                    end_date=target_date or date.today(),
-                    target_date=target_date or date.today()
-                )
-                logger.info("✅ YouTube 조회수 수집 완료")
-            except Exception as e:
-                logger.error(f"❌ YouTube 조회수 수집 실패: {e}")
-                # YouTube 조회수 수집 실패는 전체 크롤링 실패로 처리하지 않음
+            if not run_viewcount:
+                logger.info("⏭️ YouTube 조회수 수집 건너뜀 (다른 분할 실행에서 처리)")
+            else:
+                self._collect_youtube_viewcounts(target_date)
             
             # 결과 요약
             summary = self._create_summary(target_date, active_songs, crawling_results, db_results)
             
             logger.info("✅ 전체 크롤링 프로세스 완료")
+            progress_reporter.emit('run_end', status='success')
             return summary
             
         except Exception as e:
             logger.error(f"❌ 크롤링 프로세스 실패: {e}", exc_info=True)
+            progress_reporter.emit('run_end', status='error', message=str(e))
             return {'status': 'error', 'message': str(e)}
     
+    def _crawl_and_save_platform(self, platform_name: str, strategy, pending_songs: List, target_date: date):
+        """
+        한 플랫폼을 CHECKPOINT_CHUNK_SIZE 곡씩 나눠 크롤링하고 묶음마다 DB에 저장합니다.
+        프로세스가 중간에 죽어도 저장된 묶음은 재시작 시 건너뛸 수 있습니다.
+        """
+        platform_songs = SongService.get_songs_by_platform(pending_songs, platform_name)
+        available_ids = {song.id for song in platform_songs}
+        chunk_size = CommonSettings.CHECKPOINT_CHUNK_SIZE
+        platform_results = None
+        save_results = []
+        
+        progress_reporter.emit('platform_start', platform=platform_name, total_songs=len(pending_songs))
+        if platform_songs:
+            logger.info(f"🎯 {platform_name} 크롤링 시작: {len(platform_songs)}개 곡")
+        else:
+            logger.info(f"⚠️ {platform_name} 크롤링 대상 곡이 없습니다.")
+        
+        for i in range(0, len(platform_songs), chunk_size):
+            chunk = platform_songs[i:i + chunk_size]
+            # SongInfo 객체 리스트를 dict 리스트로 변환
+            results = strategy.crawl_platform([songinfo_to_dict(song) for song in chunk], self.log_writer)
+            save_results.append(self._save_platform(platform_name, [song.id for song in chunk], results, target_date))
+            platform_results = self._merge_results(platform_results, results)
+            logger.info(f"💾 {platform_name} 체크포인트 저장: {min(i + chunk_size, len(platform_songs))}/{len(platform_songs)}곡")
+        
+        # 플랫폼 정보가 없는 곡은 기존과 같이 실패값으로 저장
+        unavailable_ids = [song.id for song in pending_songs if song.id not in available_ids]
+        if unavailable_ids:
+            save_results.append(self._save_platform(platform_name, unavailable_ids, None, target_date))
+        
+        return platform_results, {
+            key: sum(result.get(key, 0) for result in save_results)
+            for key in ('saved_count', 'failed_count', 'skipped_count', 'updated_count')
+        }
+    
+    @staticmethod
+    def _save_platform(platform_name: str, song_ids: List[str], results, target_date: date):
+        """한 플랫폼의 결과만 기준 날짜로 저장합니다."""
+        db_result = save_all_platforms_for_songs(
+            song_ids=song_ids,
+            platforms=[platform_name],
+            crawl_date=target_date,
+            **{f"{platform_name}_results": results}
+        )
+        return db_result.get(platform_name, {})
+    
+    @staticmethod
+    def _merge_results(merged, results):
+        """묶음별 크롤링 결과를 합칩니다. (YouTube는 dict, 나머지는 list)"""
+        if results is None:
+            return merged
+        if merged is None:
+            return results
+        if isinstance(merged, dict):
+            merged.update(results)
+        else:
+            merged.extend(results)
+        return merged
+    
+    def _collect_youtube_viewcounts(self, target_date: Optional[date]):
+        """YouTube 조회수 수집 (후처리)"""
+        logger.info("🎥 YouTube 조회수 수집 시작 (후처리)")
+        try:
+            update_youtube_viewcounts_for_period(
+                start_date=target_date or date.today(),
+                end_date=target_date or date.today(),
+                target_date=target_date or date.today()
+            )
+            logger.info("✅ YouTube 조회수 수집 완료")
+        except Exception as e:
+            logger.error(f"❌ YouTube 조회수 수집 실패: {e}")
+            # YouTube 조회수 수집 실패는 전체 크롤링 실패로 처리하지 않음
+    
     def _create_summary(self, target_date: Optional[date], active_songs: List, crawling_results: Dict, db_results: Dict) -> Dict[str, Any]:
         """전체 크롤링 결과 요약을 생성합니다."""
         return {
@@ -153,7 +236,8 @@ def get_crawling_manager() -> CrawlingManager:
 
 
 # 기존 함수 (호환성을 위해 유지)
-def run_crawling(target_date=None):
+def run_crawling(target_date=None, song_ids=None, platforms=None, run_viewcount=True, resume=False):
     """크롤링 전체 프로세스 실행 (기존 호환성)"""
     manager = get_crawling_manager()
-    return manager.run_full_crawling(target_date) 
\ No newline at end of file
+    return manager.run_full_crawling(target_date, song_ids=song_ids, platforms=platforms,
+                                     run_viewcount=run_viewcount, resume=resume) 
\ No newline at end of file
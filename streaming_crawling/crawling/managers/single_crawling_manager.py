@@ -23,6 +23,41 @@ from datetime import date
 
 logger = logging.getLogger(__name__)
 
+def find_missing_melon_song_ids(song_dicts):
+    """
+    멜론 곡 ID가 없는 곡들을 브라우저 하나로 한꺼번에 검색해 저장 (멜론 크롤링 시작 전)
+    곡마다 드라이버를 새로 띄우지 않도록 일괄 등록 직후 첫 크롤링처럼 ID 없는 곡이 많을 때도 한 번만 띄움
+    Args:
+        song_dicts (list): 곡 정보 dict 목록 (찾은 ID는 melon_song_id에 채움)
+    Returns:
+        int: 찾아서 저장한 곡 수
+    """
+    targets = [song_dict for song_dict in song_dicts if not (song_dict.get('melon_song_id') or '').strip()]
+    if not targets:
+        return 0
+
+    logger.info(f"🍈 Melon song_id 일괄 검색 시작: {len(targets)}곡")
+    found_count = 0
+    try:
+        with setup_driver() as driver:
+            melon_finder = MelonSongIdFinder(driver)
+            for song_dict in targets:
+                try:
+                    found_melon_song_id = melon_finder.find_melon_song_id(song_dict)
+                    if found_melon_song_id and save_melon_song_id_to_db(song_dict['song_id'], found_melon_song_id):
+                        song_dict['melon_song_id'] = found_melon_song_id
+                        found_count += 1
+                    else:
+                        logger.warning(f"❌ Melon song_id 자동 검색 실패: {song_dict['artist_ko']} - {song_dict['title_ko']}")
+                except Exception as e:
+                    logger.error(f"❌ Melon song_id 자동 검색 중 오류: song_id={song_dict['song_id']}, {e}", exc_info=True)
+    except Exception as e:
+        logger.error(f"❌ Melon song_id 일괄 검색 중 오류: {e}", exc_info=True)
+
+    logger.info(f"✅ Melon song_id 일괄 검색 완료: {found_count}/{len(targets)}곡")
+    return found_count
+
+
 def run_single_song_crawling(song_dict, save_csv=True, save_db=True, platform=None):
     """
     단일 곡 크롤링 및 저장 (여러 곡과 동일한 로직, 곡 리스트만 1개)
@@ -34,11 +69,29 @@ def run_single_song_crawling(song_dict, save_csv=True, save_db=True, platform=No
     Returns:
         dict: 결과 요약
     """
-    logger.info("🚀 단일 곡 크롤링 프로세스 시작")
-    logger.info(f"🎵 곡 정보: {song_dict['artist_ko']} - {song_dict['title_ko']} (ID: {song_dict['song_id']})")
+    return run_songs_crawling([song_dict], save_csv, save_db, platform)[song_dict['song_id']]
+
+
+def run_songs_crawling(song_dicts, save_csv=True, save_db=True, platform=None):
+    """
+    여러 곡 크롤링 및 저장 (플랫폼마다 드라이버 하나로 묶음 전체를 크롤링)
+    결과 요약, YouTube 조회수 수집, 실패 처리는 곡별로 한다.
+    Args:
+        song_dicts (list): 곡 정보 dict 목록 {'song_id', 'title_ko', 'artist_ko', 'title_en', 'artist_en', ...}
+        save_csv (bool): CSV 저장 여부 (사용하지 않음, 호환성을 위해 유지)
+        save_db (bool): DB 저장 여부
+        platform (str or None): 특정 플랫폼만 실행 (None이면 전체)
+    Returns:
+        dict: song_id -> 결과 요약
+    """
+    logger.info(f"🚀 단일 곡 크롤링 프로세스 시작: {len(song_dicts)}곡")
+    # 기준 날짜는 시작 시 한 번만 정함 (자정을 넘겨도 저장, 조회수 수집, 실패 처리가 같은 날짜를 사용)
+    crawl_date = date.today()
+    for song_dict in song_dicts:
+        logger.info(f"🎵 곡 정보: {song_dict['artist_ko']} - {song_dict['title_ko']} (ID: {song_dict['song_id']})")
 
-    # 결과 요약 로거 생성
-    summary_logger = create_summary_logger(song_dict)
+    # 결과 요약 로거 생성 (곡별)
+    summary_loggers = {song_dict['song_id']: create_summary_logger(song_dict) for song_dict in song_dicts}
     platforms_to_run = [platform] if platform else Platforms.ALL_PLATFORMS
 
     # 크롤링 결과 저장용 변수들 (초기값은 빈 컨테이너)
@@ -53,180 +106,152 @@ def run_single_song_crawling(song_dict, save_csv=True, save_db=True, platform=No
     for plat in platforms_to_run:
         try:
             logger.info(f"🔍 {plat.upper()} 크롤링 시작")
-            
+
             if plat == Platforms.GENIE:
                 # Genie용 데이터 형식 (한글/영문 제목과 아티스트명 모두 포함)
-                genie_data = [{
-                    'song_id': song_dict['song_id'],
-                    'title_ko': song_dict['title_ko'],
-                    'title_en': song_dict.get('title_en', ''),
-                    'artist_ko': song_dict['artist_ko'],
-                    'artist_en': song_dict['artist_en']
-                }]
-                
-                genie_strategy = GenieCrawlingStrategy()
-                genie_results = genie_strategy.crawl_platform(genie_data, log_writer)
-                
-                # 성공 여부 확인 및 결과 추가
-                if genie_results and len(genie_results) > 0:
-                    summary_logger.add_platform_result('genie', 'success', genie_results)
-                else:
-                    summary_logger.add_platform_result('genie', 'failed')
-                    genie_results = None  # 실패 시 None으로 설정 (DB에서 -999로 처리)
-                    
+                genie_data = [_title_artist_data(song_dict) for song_dict in song_dicts]
+                genie_results = GenieCrawlingStrategy().crawl_platform(genie_data, log_writer)
+                _add_list_results(summary_loggers, 'genie', genie_results)
+                genie_results = genie_results or None  # 전체 실패 시 None (DB에서 -999로 처리)
+
             elif plat == Platforms.YOUTUBE_MUSIC:
                 # YouTube Music용 데이터 형식 (한글/영문 제목과 아티스트명 모두 포함)
-                ytmusic_data = [{
-                    'song_id': song_dict['song_id'],
-                    'title_ko': song_dict['title_ko'],
-                    'title_en': song_dict.get('title_en', ''),
-                    'artist_ko': song_dict['artist_ko'],
-                    'artist_en': song_dict['artist_en']
-                }]
-                
-                ytmusic_strategy = YouTubeMusicCrawlingStrategy()
-                ytmusic_results = ytmusic_strategy.crawl_platform(ytmusic_data, log_writer)
-                
-                # 성공 여부 확인 및 결과 추가
-                if ytmusic_results and len(ytmusic_results) > 0:
-                    summary_logger.add_platform_result('youtube_music', 'success', ytmusic_results)
-                    youtube_music_results = ytmusic_results  # 성공 시 결과 할당
-                else:
-                    summary_logger.add_platform_result('youtube_music', 'failed')
-                    youtube_music_results = None  # 실패 시 None으로 설정 (DB에서 -999로 처리)
-                    
+                ytmusic_data = [_title_artist_data(song_dict) for song_dict in song_dicts]
+                youtube_music_results = YouTubeMusicCrawlingStrategy().crawl_platform(ytmusic_data, log_writer)
+                _add_list_results(summary_loggers, 'youtube_music', youtube_music_results)
+                youtube_music_results = youtube_music_results or None
+
             elif plat == Platforms.YOUTUBE:
-                # YouTube는 song_dict에서 직접 URL 정보 사용
-                youtube_url = song_dict.get('youtube_url')
-                
-                if youtube_url:
-                    youtube_data = [{
-                        'song_id': song_dict['song_id'],
-                        'youtube_url': youtube_url,
-                        'artist_ko': song_dict['artist_ko'],
-                        'title_ko': song_dict['title_ko']
-                    }]
-                    
-                    youtube_strategy = YouTubeCrawlingStrategy()
-                    youtube_results = youtube_strategy.crawl_platform(youtube_data, log_writer)
-                    
-                    # 성공 여부 확인 및 결과 추가 (딕셔너리 구조에 맞게 판정)
-                    if youtube_results and any(
-                        v and isinstance(v, dict) and v.get('song_name') not in (None, '', '제목 없음')
-                        for v in youtube_results.values()
-                    ):
-                        summary_logger.add_platform_result('youtube', 'success', youtube_results)
+                # YouTube는 song_dict에서 직접 URL 정보 사용 (URL이 없는 곡은 건너뜀)
+                youtube_data = []
+                for song_dict in song_dicts:
+                    if song_dict.get('youtube_url'):
+                        youtube_data.append({
+                            'song_id': song_dict['song_id'],
+                            'youtube_url': song_dict['youtube_url'],
+                            'artist_ko': song_dict['artist_ko'],
+                            'title_ko': song_dict['title_ko']
+                        })
                     else:
-                        summary_logger.add_platform_result('youtube', 'failed')
-                        youtube_results = None  # 실패 시 None으로 설정 (DB에서 -999로 처리)
-                else:
-                    summary_logger.add_platform_result('youtube', 'skipped')
-                    logger.warning(f"⚠️ YouTube URL이 비어있어 건너뜀")
-                    
+                        summary_loggers[song_dict['song_id']].add_platform_result('youtube', 'skipped')
+                        logger.warning(f"⚠️ YouTube URL이 비어있어 건너뜀: {song_dict['artist_ko']} - {song_dict['title_ko']}")
+
+                if youtube_data:
+                    youtube_results = YouTubeCrawlingStrategy().crawl_platform(youtube_data, log_writer)
+                    # 성공 여부 확인 및 결과 추가 (딕셔너리 구조에 맞게 판정)
+                    for data in youtube_data:
+                        result = (youtube_results or {}).get(data['song_id'])
+                        if result and isinstance(result, dict) and result.get('song_name') not in (None, '', '제목 없음'):
+                            summary_loggers[data['song_id']].add_platform_result('youtube', 'success', {data['song_id']: result})
+                        else:
+                            summary_loggers[data['song_id']].add_platform_result('youtube', 'failed')
+                    youtube_results = youtube_results or None
+
             elif plat == Platforms.MELON:
-                # Melon은 song_dict에서 직접 melon_song_id 사용
-                melon_song_id = song_dict.get('melon_song_id')
-                
-                # melon_song_id가 없으면 자동으로 찾아서 저장 (null, 빈 문자열, 공백 모두 체크)
-                if not melon_song_id or melon_song_id.strip() == "":
-                    logger.info(f"🍈 Melon song_id가 없어 자동 검색 시작: {song_dict['artist_ko']} - {song_dict['title_ko']}")
-                    
-                    try:
-                        # 드라이버 설정하여 멜론 곡 ID 검색
-                        with setup_driver() as driver:
-                            melon_finder = MelonSongIdFinder(driver)
-                            found_melon_song_id = melon_finder.find_melon_song_id(song_dict)
-                            
-                            if found_melon_song_id:
-                                # DB에 저장
-                                if save_melon_song_id_to_db(song_dict['song_id'], found_melon_song_id):
-                                    melon_song_id = found_melon_song_id
-                                    song_dict['melon_song_id'] = found_melon_song_id  # song_dict도 업데이트
-                                    logger.info(f"✅ Melon song_id 자동 검색 및 저장 완료: {found_melon_song_id}")
-                                else:
-                                    logger.error(f"❌ Melon song_id DB 저장 실패: {found_melon_song_id}")
-                            else:
-                                logger.warning(f"❌ Melon song_id 자동 검색 실패")
-                                
-                    except Exception as e:
-                        logger.error(f"❌ Melon song_id 자동 검색 중 오류: {e}", exc_info=True)
-                
-                # melon_song_id가 있으면 크롤링 진행
-                if melon_song_id:
-                    melon_data = [{
-                        'song_id': song_dict['song_id'],
-                        'melon_song_id': melon_song_id
-                    }]
-                    
-                    melon_strategy = MelonCrawlingStrategy()
-                    melon_results = melon_strategy.crawl_platform(melon_data, log_writer)
-                    
-                    # 성공 여부 확인 및 결과 추가
-                    if melon_results and len(melon_results) > 0:
-                        summary_logger.add_platform_result('melon', 'success', melon_results)
+                # melon_song_id가 없는 곡은 브라우저 하나로 한꺼번에 찾아서 저장
+                find_missing_melon_song_ids(song_dicts)
+
+                melon_data = []
+                for song_dict in song_dicts:
+                    melon_song_id = (song_dict.get('melon_song_id') or '').strip()
+                    if melon_song_id:
+                        melon_data.append({
+                            'song_id': song_dict['song_id'],
+                            'melon_song_id': melon_song_id
+                        })
                     else:
-                        summary_logger.add_platform_result('melon', 'failed')
-                        melon_results = None  # 실패 시 None으로 설정 (DB에서 -999로 처리)
-                else:
-                    # 멜론 song_id를 찾지 못한 경우는 'failed'로 처리 (크롤링 시도했지만 실패)
-                    summary_logger.add_platform_result('melon', 'failed')
-                    logger.warning(f"❌ Melon song_id를 찾을 수 없어 크롤링 실패")
-                    melon_results = None  # 실패 시 None으로 설정 (DB에서 -999로 처리)
-                    
+                        # 멜론 song_id를 찾지 못한 경우는 'failed'로 처리 (크롤링 시도했지만 실패)
+                        summary_loggers[song_dict['song_id']].add_platform_result('melon', 'failed')
+                        logger.warning(f"❌ Melon song_id를 찾을 수 없어 크롤링 실패: {song_dict['artist_ko']} - {song_dict['title_ko']}")
+
+                if melon_data:
+                    melon_results = MelonCrawlingStrategy().crawl_platform(melon_data, log_writer)
+                    _add_list_results(summary_loggers, 'melon', melon_results,
+                                      [data['song_id'] for data in melon_data])
+                melon_results = melon_results or None
+
         except Exception as e:
             logger.error(f"❌ {plat.upper()} 크롤링 중 오류: {str(e)}")
-            summary_logger.add_platform_result(plat, 'error')
+            for summary_logger in summary_loggers.values():
+                summary_logger.add_platform_result(plat, 'error')
 
-    # 모든 크롤링 완료 후 DB 저장 (무조건 저장)
+    song_ids = [song_dict['song_id'] for song_dict in song_dicts]
+
+    # 모든 크롤링 완료 후 DB 저장 (무조건 저장, 결과가 없는 곡은 실패값으로 저장)
     if save_db:
         logger.info("💾 모든 플랫폼 데이터 DB 저장 시작")
         db_result = save_all_platforms_for_songs(
-            song_ids=[song_dict['song_id']],
+            song_ids=song_ids,
             genie_results=genie_results,
             youtube_music_results=youtube_music_results,
             youtube_results=youtube_results,
-            melon_results=melon_results
-        )
-        
-        # DB 저장 결과 로깅
-        for platform in ['genie', 'youtube_music', 'youtube', 'melon']:
-            if platform in db_result:
-                platform_result = db_result[platform]
-                summary_logger.add_db_result(platform, platform_result)
-    
-    # 요약 정보 생성 및 출력
-    summary = summary_logger.generate_summary()
-    summary_logger.print_summary()
-    
-    # YouTube 조회수 수집 (후처리)
-    logger.info("🎥 YouTube 조회수 수집 시작 (후처리)")
-    try:
-        today = date.today()
-        update_youtube_viewcounts_for_period(
-            start_date=today,
-            end_date=today,
-            target_date=today,
-            song_id=song_dict['song_id']  # 특정 곡 ID 전달
+            melon_results=melon_results,
+            crawl_date=crawl_date
         )
-        logger.info("✅ YouTube 조회수 수집 완료")
-    except Exception as e:
-        logger.error(f"❌ YouTube 조회수 수집 실패: {e}")
-        # YouTube 조회수 수집 실패는 전체 크롤링 실패로 처리하지 않음
 
-    # 실패 처리 - DB에 저장된 -999 값을 확인하여 실패 처리
-    if save_db:
-        logger.info(f"🔍 실패 곡 목록 확인 및 업데이트: {song_dict['song_id']}")
-        FailureService.check_and_handle_failures(song_dict['song_id'])
-        
-        # 추가 실패 로깅 (디버깅용)
-        failed_platforms = []
-        for platform, status in summary_logger.platform_status.items():
-            if status in ['failed', 'error']:
-                failed_platforms.append(platform.upper())
-        
-        if failed_platforms:
-            logger.warning(f"❌ 실패한 플랫폼들: {', '.join(failed_platforms)}")
+        # DB 저장 결과 로깅 (묶음 전체 결과)
+        for platform_name in ['genie', 'youtube_music', 'youtube', 'melon']:
+            if platform_name in db_result:
+                for summary_logger in summary_loggers.values():
+                    summary_logger.add_db_result(platform_name, db_result[platform_name])
+
+    summaries = {}
+    for song_id in song_ids:
+        summary_logger = summary_loggers[song_id]
+
+        # 요약 정보 생성 및 출력
+        summaries[song_id] = summary_logger.generate_summary()
+        summary_logger.print_summary()
+
+        # YouTube 조회수 수집 (후처리)
+        logger.info(f"🎥 YouTube 조회수 수집 시작 (후처리): {song_id}")
+        try:
+            update_youtube_viewcounts_for_period(
+                start_date=crawl_date,
+                end_date=crawl_date,
+                target_date=crawl_date,
+                song_id=song_id  # 특정 곡 ID 전달
+            )
+            logger.info("✅ YouTube 조회수 수집 완료")
+        except Exception as e:
+            logger.error(f"❌ YouTube 조회수 수집 실패: {e}")
+            # YouTube 조회수 수집 실패는 전체 크롤링 실패로 처리하지 않음
+
+        # 실패 처리 - DB에 저장된 -999 값을 확인하여 실패 처리
+        if save_db:
+            logger.info(f"🔍 실패 곡 목록 확인 및 업데이트: {song_id}")
+            FailureService.check_and_handle_failures(song_id, crawl_date)
+
+            # 추가 실패 로깅 (디버깅용)
+            failed_platforms = [plat.upper() for plat, status in summary_logger.platform_status.items()
+                                if status in ['failed', 'error']]
+            if failed_platforms:
+                logger.warning(f"❌ 실패한 플랫폼들: {', '.join(failed_platforms)} (song_id={song_id})")
+            else:
+                logger.info(f"✅ 모든 플랫폼 성공 (song_id={song_id})")
+
+    return summaries
+
+
+def _title_artist_data(song_dict):
+    """제목/아티스트로 검색하는 플랫폼(Genie, YouTube Music)용 데이터"""
+    return {
+        'song_id': song_dict['song_id'],
+        'title_ko': song_dict['title_ko'],
+        'title_en': song_dict.get('title_en', ''),
+        'artist_ko': song_dict['artist_ko'],
+        'artist_en': song_dict['artist_en']
+    }
+
+
+def _add_list_results(summary_loggers, platform_name, results, song_ids=None):
+    """목록 형태 크롤링 결과를 곡별 성공/실패로 나눠 요약에 추가"""
+    results_by_song = {}
+    for result in results or []:
+        results_by_song.setdefault(result.get('song_id'), []).append(result)
+    for song_id in song_ids if song_ids is not None else summary_loggers.keys():
+        song_results = results_by_song.get(song_id)
+        if song_results:
+            summary_loggers[song_id].add_platform_result(platform_name, 'success', song_results)
         else:
-            logger.info(f"✅ 모든 플랫폼 성공")
-    
-    return summary 
\ No newline at end of file
+            summary_loggers[song_id].add_platform_result(platform_name, 'failed')
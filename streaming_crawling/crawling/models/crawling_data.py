@@ -25,11 +25,21 @@ class CrawlingData(BaseModel):
         choices=PlatformType.choices,
         help_text="플랫폼명"
     )
+    crawl_date = models.DateField(null=True, help_text="크롤링 기준 날짜 (날짜 조회는 이 컬럼으로 범위 조회)")
+    views_increase = models.BigIntegerField(null=True, help_text="전날 대비 조회수 증가량 (전날 데이터 없음/오류: -1)")
+    listeners_increase = models.BigIntegerField(null=True, help_text="전날 대비 청취자 수 증가량 (전날 데이터 없음/오류: -1)")
 
     class Meta:
         db_table = 'crawling_data'
         ordering = ['-created_at']
-        # unique_together 제거 - 같은 날짜에 여러 번 크롤링할 수 있도록 함
+        # 곡/플랫폼/날짜별로 한 행만 저장 (같은 날 재실행 시 upsert로 갱신)
+        constraints = [
+            models.UniqueConstraint(fields=['song_id', 'platform', 'crawl_date'], name='uk_crawling_data_song_platform_date'),
+        ]
+        indexes = [
+            models.Index(fields=['song_id', 'crawl_date'], name='idx_crawling_data_song_date'),
+            models.Index(fields=['crawl_date'], name='idx_crawling_data_date'),
+        ]
         
     def __str__(self):
         return f"{self.platform} - Song {self.song_id}: Views={self.views}, Listeners={self.listeners}" 
\ No newline at end of file
@@ -18,6 +18,13 @@ class SongInfo(BaseModel):
     # 크롤링용 필수 정보
     youtube_url = models.URLField(max_length=500, blank=True, null=True, help_text="YouTube URL (YouTube 크롤링용)")
     melon_song_id = models.CharField(max_length=100, blank=True, null=True, help_text="멜론 곡 ID (Melon 크롤링용)", unique=True)
+    
+    # 크롤링 데이터 행 수 (새 행 저장 시 증가, 웹 페이지의 전체 건수 표시용)
+    crawling_data_count = models.BigIntegerField(null=True, blank=True, default=0, help_text="크롤링 데이터 행 수")
+    
+    # 가장 최근 크롤링 기간 (웹 서버에서 크롤링 기간 생성 시 갱신)
+    crawl_start_date = models.DateField(null=True, blank=True, help_text="현재 크롤링 시작일")
+    crawl_end_date = models.DateField(null=True, blank=True, help_text="현재 크롤링 종료일")
 
     class Meta:
         db_table = 'song_info'
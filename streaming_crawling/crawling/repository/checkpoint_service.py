@@ -0,0 +1,48 @@
+"""
+크롤링 진행 상황(체크포인트) 조회 서비스
+"""
+from datetime import date
+from collections import defaultdict
+from crawling.models import CrawlingData
+import logging
+
+logger = logging.getLogger(__name__)
+
+# 크롤링 실패 시 저장되는 값
+FAILED_VALUE = -999
+
+
+class CheckpointService:
+    """
+    crawling_data에 이미 저장된 (곡, 플랫폼)을 조회하여 재시작 시 남은 작업만 크롤링하도록 지원
+    """
+    
+    @staticmethod
+    def get_completed_platforms(song_ids, target_date=None):
+        """
+        기준 날짜에 정상 값(-999 아님)으로 저장된 곡별 플랫폼 목록 조회
+        
+        Args:
+            song_ids (list): 조회할 곡 ID 리스트
+            target_date (date, optional): 기준 날짜. None이면 오늘 날짜
+            
+        Returns:
+            dict: {song_id: {platform, ...}} (platform은 'genie', 'melon' 등 소문자)
+        """
+        check_date = target_date or date.today()
+        completed = defaultdict(set)
+        
+        rows = CrawlingData.objects.filter(
+            song_id__in=song_ids,
+            crawl_date=check_date
+        ).exclude(
+            views=FAILED_VALUE
+        ).exclude(
+            listeners=FAILED_VALUE
+        ).values_list('song_id', 'platform')
+        
+        for song_id, platform in rows:
+            completed[song_id].add(platform.lower())
+        
+        logger.info(f"📌 체크포인트 조회: {check_date} 기준 {len(completed)}개 곡에 완료된 플랫폼 존재")
+        return completed
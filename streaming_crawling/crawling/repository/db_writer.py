@@ -2,9 +2,12 @@
 DB 저장 관련 함수들
 """
 from django.db import transaction
+from django.db.models import Count, F, OuterRef, Subquery
+from django.db.models.functions import Coalesce
 from crawling.models import SongInfo, CrawlingData, PlatformType
-from datetime import datetime
+from datetime import datetime, date, timedelta
 from crawling.utils.constants import CommonSettings, Platforms
+from crawling.utils import progress_reporter
 import logging
 
 logger = logging.getLogger(__name__)
@@ -157,15 +160,76 @@ def get_song_info_id(platform, **kwargs):
         logger.error(f"❌ SongInfo 조회 실패: {platform} - {kwargs} - {e}")
         return None
 
-def _save_crawling_data(results, platform, platform_type, song_ids=None):
+def _calculate_increase(current_value, previous_value):
     """
-    크롤링 데이터 저장 공통 함수 (오늘 날짜 데이터 업데이트)
+    전날 대비 증가량 계산 (Java CalculateIncreaseDataService.calculateIncrease와 같은 규칙)
+    
+    Args:
+        current_value (int): 오늘 값
+        previous_value (int): 전날 값 (None이면 전날 데이터 없음)
+        
+    Returns:
+        int: 증가량 (전날 데이터가 없거나 둘 중 하나라도 미지원/오류 값이면 -1)
+    """
+    if previous_value is None or current_value < 0 or previous_value < 0:
+        return -1
+    return current_value - previous_value
+
+def _apply_increases(rows, platform_type, crawl_date):
+    """
+    저장할 행들에 전날 데이터 대비 증가량을 채움 (전날 데이터는 한 번에 조회)
+    
+    Args:
+        rows (list): 저장할 CrawlingData 객체 리스트
+        platform_type: PlatformType enum 값
+        crawl_date (date): 저장 기준 날짜
+    """
+    previous_by_song = {
+        song_id: (views, listeners)
+        for song_id, views, listeners in CrawlingData.objects.filter(
+            song_id__in=[row.song_id for row in rows],
+            platform=platform_type,
+            crawl_date=crawl_date - timedelta(days=1)
+        ).values_list('song_id', 'views', 'listeners')
+    }
+    for row in rows:
+        previous_views, previous_listeners = previous_by_song.get(row.song_id, (None, None))
+        row.views_increase = _calculate_increase(row.views, previous_views)
+        row.listeners_increase = _calculate_increase(row.listeners, previous_listeners)
+
+def _find_result(results, song_id):
+    """
+    크롤링 결과에서 특정 song_id의 결과 찾기
+    
+    Args:
+        results (list/dict): 크롤링 결과
+        song_id (str): 곡 ID
+        
+    Returns:
+        dict: 해당 곡의 결과 (없으면 None)
+    """
+    if not results:
+        return None
+    if isinstance(results, dict):
+        return results.get(song_id)
+    for result in results:
+        if isinstance(result, dict) and result.get('song_id') == song_id:
+            return result
+    return None
+
+def _save_crawling_data(results, platform, platform_type, song_ids=None, crawl_date=None):
+    """
+    크롤링 데이터 저장 공통 함수 (기준 날짜 데이터 업서트)
+    
+    (song_id, platform, crawl_date) 유니크 제약을 이용해 한 번의 bulk upsert로 저장하므로
+    같은 날 다시 실행해도 행이 늘어나지 않고 기존 값만 갱신된다.
     
     Args:
         results (list/dict): 크롤링 결과
         platform (str): 플랫폼명 (로그용)
         platform_type: PlatformType enum 값
         song_ids (list): 처리할 곡 ID 리스트 (None이면 results에서 추출)
+        crawl_date (date): 저장 기준 날짜 (실행 기준 날짜, None이면 오늘)
         
     Returns:
         dict: 저장 결과 (saved_count, failed_count, skipped_count, updated_count)
@@ -195,66 +259,86 @@ def _save_crawling_data(results, platform, platform_type, song_ids=None):
         logger.warning(f"⚠️ {platform} 처리할 song_id가 없음")
         return {'saved_count': 0, 'failed_count': 0, 'skipped_count': 0, 'updated_count': 0}
     
-    # 각 song_id에 대해 데이터 저장 (무조건 저장)
+    # results가 None이거나 빈 컨테이너이면 크롤링 실패로 간주하여 -999로 처리
+    no_results = results is None or (isinstance(results, (list, dict)) and len(results) == 0)
+    if no_results:
+        logger.warning(f"⚠️ {platform} 크롤링 결과 없음, -999로 저장: {len(target_song_ids)}개 곡")
+    
+    # 자정을 넘겨 실행되거나 --date로 실행해도 실행 기준 날짜로 저장 (재시작 체크포인트와 같은 날짜)
+    crawl_date = crawl_date or date.today()
+    
+    # 각 song_id의 저장할 행 생성 (무조건 저장)
+    rows = []
     for song_id in target_song_ids:
         try:
-            # 해당 song_id의 크롤링 결과 찾기
-            result_data = None
-            if results:
-                if isinstance(results, dict):
-                    result_data = results.get(song_id)
-                else:
-                    # list에서 해당 song_id 찾기
-                    for result in results:
-                        if isinstance(result, dict) and result.get('song_id') == song_id:
-                            result_data = result
-                            break
+            result_data = None if no_results else _find_result(results, song_id)
+            clean_data = _validate_and_clean_data(result_data, platform, song_id)
+            rows.append(CrawlingData(
+                song_id=clean_data['song_id'],
+                views=clean_data['views'],
+                listeners=clean_data['listeners'],
+                platform=platform_type,
+                crawl_date=crawl_date
+            ))
+        except Exception as e:
+            failed_count += 1
+            logger.error(f"❌ {platform} DB 저장 실패: song_id={song_id} - {e}")
+            progress_reporter.emit('song_saved', song_id=song_id, platform=platform, status='error')
+    
+    if not rows:
+        return {'saved_count': saved_count, 'failed_count': failed_count, 'skipped_count': skipped_count, 'updated_count': updated_count}
+    
+    row_song_ids = [row.song_id for row in rows]
+    try:
+        with transaction.atomic():
+            # 이미 기준 날짜 데이터가 있는 곡 (교체 건수 집계용)
+            existing_song_ids = set(CrawlingData.objects.filter(
+                song_id__in=row_song_ids,
+                platform=platform_type,
+                crawl_date=crawl_date
+            ).values_list('song_id', flat=True))
             
-            # 데이터 검증 및 정리 (무조건 저장)
-            # results가 None이거나 빈 컨테이너이면 크롤링 실패로 간주하여 -999로 처리
-            if results is None or (isinstance(results, (list, dict)) and len(results) == 0):
-                logger.warning(f"⚠️ {platform} 크롤링 결과 없음, -999로 저장: song_id={song_id}")
-                clean_data = _validate_and_clean_data(None, platform, song_id)
-            else:
-                logger.info(f"ℹ️ {platform} 크롤링 결과 있음, 정상 저장: song_id={song_id}")
-                clean_data = _validate_and_clean_data(result_data, platform, song_id)
+            # 전날 대비 증가량을 저장 시점에 계산해 함께 저장 (조회 시 재계산하지 않음)
+            _apply_increases(rows, platform_type, crawl_date)
             
-            # 오늘 날짜의 기존 데이터 확인
-            from datetime import date
-            today = date.today()
+            # (song_id, platform, crawl_date) 충돌 시 값만 갱신
+            CrawlingData.objects.bulk_create(
+                rows,
+                batch_size=CommonSettings.DB_UPSERT_BATCH_SIZE,
+                update_conflicts=True,
+                update_fields=['views', 'listeners', 'views_increase', 'listeners_increase', 'updated_at']
+            )
             
-            try:
-                # 같은 song_id, platform, 오늘 날짜(일 단위)의 기존 데이터 삭제
-                deleted_count = CrawlingData.objects.filter(
-                    song_id=clean_data['song_id'],
-                    platform=platform_type,
-                    created_at__date=today  # 반드시 date만 비교
-                ).delete()[0]
-                
-                # 새 데이터 생성
-                crawling_data = CrawlingData.objects.create(
-                    song_id=clean_data['song_id'],
-                    views=clean_data['views'],
-                    listeners=clean_data['listeners'],
-                    platform=platform_type
+            # 새로 생성된 행만 곡별 행 수에 반영
+            # 값이 비어 있는 곡(백필 전)은 방금 저장한 행까지 포함해 전체 행 수를 세어 채움
+            new_song_ids = [song_id for song_id in row_song_ids if song_id not in existing_song_ids]
+            if new_song_ids:
+                song_row_count = (CrawlingData.objects.filter(song_id=OuterRef('pk'))
+                                  .order_by().values('song_id').annotate(row_count=Count('id')).values('row_count'))
+                SongInfo.objects.filter(id__in=new_song_ids).update(
+                    crawling_data_count=Coalesce(F('crawling_data_count') + 1, Subquery(song_row_count))
                 )
-                
-                logger.info(f"💾 {platform} DB 저장 완료: song_id={song_id}, views={clean_data['views']}, listeners={clean_data['listeners']}")
-                
-                if deleted_count > 0:
-                    updated_count += 1
-                    logger.info(f"✅ {platform} 데이터 교체(업데이트): song_id={song_id} (기존 {deleted_count}개 삭제 후 새로 저장)")
-                else:
-                    saved_count += 1
-                    logger.info(f"✅ {platform} 새 데이터 생성: song_id={song_id}")
-                
-            except Exception as e:
-                failed_count += 1
-                logger.error(f"❌ {platform} DB 저장/업데이트 실패: song_id={song_id} - {e}")
-            
-        except Exception as e:
-            failed_count += 1
-            logger.error(f"❌ {platform} DB 저장 실패: song_id={song_id} - {e}")
+    except Exception as e:
+        failed_count += len(rows)
+        logger.error(f"❌ {platform} DB 일괄 저장 실패: {len(rows)}개 곡 - {e}")
+        for song_id in row_song_ids:
+            progress_reporter.emit('song_saved', song_id=song_id, platform=platform, status='error')
+        return {'saved_count': saved_count, 'failed_count': failed_count, 'skipped_count': skipped_count, 'updated_count': updated_count}
+    
+    for row in rows:
+        logger.info(f"💾 {platform} DB 저장 완료: song_id={row.song_id}, views={row.views}, listeners={row.listeners}")
+        progress_reporter.emit(
+            'song_saved',
+            song_id=row.song_id,
+            platform=platform,
+            status='failed' if -999 in (row.views, row.listeners) else 'success',
+            views=row.views,
+            listeners=row.listeners
+        )
+        if row.song_id in existing_song_ids:
+            updated_count += 1
+        else:
+            saved_count += 1
     
     logger.info(f"✅ {platform} DB 저장 완료: {saved_count}개 생성, {updated_count}개 교체, {failed_count}개 실패, {skipped_count}개 스킵")
     return {
@@ -264,59 +348,63 @@ def _save_crawling_data(results, platform, platform_type, song_ids=None):
         'updated_count': updated_count
     }
 
-def save_genie_to_db(results, song_ids=None):
+def save_genie_to_db(results, song_ids=None, crawl_date=None):
     """
     Genie 크롤링 결과를 DB에 저장
     
     Args:
         results (list): 크롤링 결과 리스트
         song_ids (list): 처리할 곡 ID 리스트 (None이면 results에서 추출)
+        crawl_date (date): 저장 기준 날짜 (None이면 오늘)
         
     Returns:
         dict: 저장 결과 (saved_count, failed_count, skipped_count, updated_count)
     """
-    return _save_crawling_data(results, 'genie', PlatformType.GENIE, song_ids)
+    return _save_crawling_data(results, 'genie', PlatformType.GENIE, song_ids, crawl_date)
 
-def save_youtube_music_to_db(results, song_ids=None):
+def save_youtube_music_to_db(results, song_ids=None, crawl_date=None):
     """
     YouTube Music 크롤링 결과를 DB에 저장
     
     Args:
         results (list): 크롤링 결과 리스트
         song_ids (list): 처리할 곡 ID 리스트 (None이면 results에서 추출)
+        crawl_date (date): 저장 기준 날짜 (None이면 오늘)
         
     Returns:
         dict: 저장 결과 (saved_count, failed_count, skipped_count, updated_count)
     """
-    return _save_crawling_data(results, 'youtube_music', PlatformType.YOUTUBE_MUSIC, song_ids)
+    return _save_crawling_data(results, 'youtube_music', PlatformType.YOUTUBE_MUSIC, song_ids, crawl_date)
 
-def save_youtube_to_db(results, song_ids=None):
+def save_youtube_to_db(results, song_ids=None, crawl_date=None):
     """
     YouTube 크롤링 결과를 DB에 저장
     
     Args:
         results (dict): 크롤링 결과 딕셔너리
         song_ids (list): 처리할 곡 ID 리스트 (None이면 results에서 추출)
+        crawl_date (date): 저장 기준 날짜 (None이면 오늘)
         
     Returns:
         dict: 저장 결과 (saved_count, failed_count, skipped_count, updated_count)
     """
-    return _save_crawling_data(results, 'youtube', PlatformType.YOUTUBE, song_ids)
+    return _save_crawling_data(results, 'youtube', PlatformType.YOUTUBE, song_ids, crawl_date)
 
-def save_melon_to_db(results, song_ids=None):
+def save_melon_to_db(results, song_ids=None, crawl_date=None):
     """
     Melon 크롤링 결과를 DB에 저장
     
     Args:
         results (list): 크롤링 결과 리스트
         song_ids (list): 처리할 곡 ID 리스트 (None이면 results에서 추출)
+        crawl_date (date): 저장 기준 날짜 (None이면 오늘)
         
     Returns:
         dict: 저장 결과 (saved_count, failed_count, skipped_count, updated_count)
     """
-    return _save_crawling_data(results, 'melon', PlatformType.MELON, song_ids)
+    return _save_crawling_data(results, 'melon', PlatformType.MELON, song_ids, crawl_date)
 
-def save_all_platforms_for_songs(song_ids, genie_results=None, youtube_music_results=None, youtube_results=None, melon_results=None):
+def save_all_platforms_for_songs(song_ids, genie_results=None, youtube_music_results=None, youtube_results=None, melon_results=None, platforms=None, crawl_date=None):
     """
     모든 곡에 대해 4개 플랫폼의 데이터를 무조건 저장
     
@@ -326,6 +414,9 @@ def save_all_platforms_for_songs(song_ids, genie_results=None, youtube_music_res
         youtube_music_results (list): YouTube Music 크롤링 결과 (None이면 빈 데이터로 저장)
         youtube_results (dict): YouTube 크롤링 결과 (None이면 빈 데이터로 저장)
         melon_results (list): Melon 크롤링 결과 (None이면 빈 데이터로 저장)
+        platforms (list, optional): 저장할 플랫폼 목록. None이면 4개 플랫폼 모두 저장
+                                    (플랫폼별로 나눠 실행할 때 다른 플랫폼 데이터를 덮어쓰지 않도록 사용)
+        crawl_date (date, optional): 저장 기준 날짜 (실행 기준 날짜). None이면 오늘
         
     Returns:
         dict: 전체 저장 결과
@@ -334,13 +425,15 @@ def save_all_platforms_for_songs(song_ids, genie_results=None, youtube_music_res
         logger.warning("⚠️ 처리할 song_ids가 없음")
         return {}
     
-    logger.info(f"🎯 {len(song_ids)}개 곡에 대해 4개 플랫폼 데이터 저장 시작")
+    target_platforms = platforms or Platforms.ALL_PLATFORMS
+    logger.info(f"🎯 {len(song_ids)}개 곡에 대해 {len(target_platforms)}개 플랫폼 데이터 저장 시작")
     
     # 각 플랫폼별 저장 (결과가 없어도 무조건 저장)
-    genie_result = save_genie_to_db(genie_results, song_ids)
-    youtube_music_result = save_youtube_music_to_db(youtube_music_results, song_ids)
-    youtube_result = save_youtube_to_db(youtube_results, song_ids)
-    melon_result = save_melon_to_db(melon_results, song_ids)
+    empty_result = {'saved_count': 0, 'failed_count': 0, 'skipped_count': 0, 'updated_count': 0}
+    genie_result = save_genie_to_db(genie_results, song_ids, crawl_date) if Platforms.GENIE in target_platforms else empty_result
+    youtube_music_result = save_youtube_music_to_db(youtube_music_results, song_ids, crawl_date) if Platforms.YOUTUBE_MUSIC in target_platforms else empty_result
+    youtube_result = save_youtube_to_db(youtube_results, song_ids, crawl_date) if Platforms.YOUTUBE in target_platforms else empty_result
+    melon_result = save_melon_to_db(melon_results, song_ids, crawl_date) if Platforms.MELON in target_platforms else empty_result
     
     # 전체 결과 집계
     total_result = {
@@ -355,4 +448,4 @@ def save_all_platforms_for_songs(song_ids, genie_results=None, youtube_music_res
     }
     
     logger.info(f"✅ 전체 플랫폼 저장 완료: {total_result['total_saved']}개 생성, {total_result['total_updated']}개 교체, {total_result['total_failed']}개 실패")
-    return total_result 
\ No newline at end of file
+    return total_result 
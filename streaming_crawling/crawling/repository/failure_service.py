@@ -106,7 +106,7 @@ class FailureService:
                     crawling_data = CrawlingData.objects.filter(
                         song_id=song_id,
                         platform=platform_type,
-                        created_at__date=check_date
+                        crawl_date=check_date
                     ).first()
                     
                     if crawling_data:
@@ -178,7 +178,7 @@ class FailureService:
                 crawling_data = CrawlingData.objects.filter(
                     song_id=song_id,
                     platform=platform_type,
-                    created_at__date=check_date
+                    crawl_date=check_date
                 ).first()
                 
                 if crawling_data:
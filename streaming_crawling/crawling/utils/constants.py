@@ -278,6 +278,8 @@ class Platforms:
 # 공통 설정
 class CommonSettings:
     DATE_FORMAT = '%Y-%m-%d %H:%M:%S'
+    CHECKPOINT_CHUNK_SIZE = 50  # 전체 크롤링 시 이 곡 수마다 DB에 저장 (중단 시 재시작 지점)
+    DB_UPSERT_BATCH_SIZE = 500  # crawling_data bulk upsert 시 INSERT 한 문장에 담는 행 수
     CSV_ENCODING = 'utf-8-sig'
     DEFAULT_WAIT_TIME = 10
     RANDOM_DELAY_MIN = 1.2
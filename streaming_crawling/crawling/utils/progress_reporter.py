@@ -0,0 +1,39 @@
+"""
+크롤링 진행 상황 보고 유틸리티
+
+Java 서버가 크롤러 출력에서 진행 상황을 읽을 수 있도록 한 줄짜리 JSON 이벤트를 stdout에 출력한다.
+형식: @@PROGRESS {"event": "...", ...}
+
+이벤트 종류
+- run_start: 실행 시작 (total_songs, platforms)
+- platform_start: 플랫폼 크롤링 시작 (platform, total_songs)
+- song_saved: 곡/플랫폼 결과 저장 (song_id, platform, status, views, listeners)
+- run_end: 실행 종료 (status)
+"""
+import json
+import sys
+import threading
+from datetime import datetime
+
+PROGRESS_PREFIX = '@@PROGRESS '
+
+_lock = threading.Lock()
+
+
+def emit(event, **fields):
+    """
+    진행 상황 이벤트 출력 (출력 실패는 크롤링에 영향을 주지 않음)
+
+    Args:
+        event (str): 이벤트 종류
+        **fields: 이벤트 데이터
+    """
+    payload = {'event': event, 'ts': datetime.now().isoformat(timespec='seconds'), **fields}
+    try:
+        line = PROGRESS_PREFIX + json.dumps(payload, ensure_ascii=False, default=str)
+        # 로그와 섞여도 한 줄이 깨지지 않도록 한 번에 쓰고 바로 flush
+        with _lock:
+            sys.stdout.write(line + '\n')
+            sys.stdout.flush()
+    except Exception:
+        pass